@@ -12,6 +12,9 @@
  * - EASY: Greedy Algorithm + Simple Recursion
  * - MODERATE: Greedy + Divide and Conquer + Recursion (no Backtracking)
  * - HARD: All algorithms including Backtracking with Minimax
+ *
+ * The AI runs on AIMoveExecutor's thread against its own board copy, within the
+ * difficulty's time limit; New Game cancels a running search.
  */
 
 import javax.swing.*;
@@ -25,12 +28,23 @@ public class Connect4UI extends JFrame {
     // Game components
     private Board board;
     private DivideAndConquer winChecker;
+    // AI side: its own DivideAndConquer on the executor's board
+    private AIMoveExecutor aiExecutor;
+    private DivideAndConquer aiEngine;
+
+    // Hints for the human, searched in the background whenever the human is to move
+    private HintService hintService;
+    private DivideAndConquer hintEngine;
+    private int hintColumn = -1;
+
+    // Live search progress, shown by the optional analysis panel
+    private final SearchProgress searchProgress = new SearchProgress();
+    private AnalysisPanel analysisPanel;
 
     // UI components
-    private JPanel[][] cellPanels;
     private JLabel[] dropLabels;
     private JLabel statusLabel;
-    private JPanel boardPanel;
+    private BoardComponent boardPanel;
     private JPanel controlPanel;
     private JLabel difficultyLabel;
     private JLabel algorithmLabel;
@@ -53,17 +67,20 @@ public class Connect4UI extends JFrame {
 
     // Difficulty Enum
     public enum GameDifficulty {
-        EASY("Easy", "D&C (Basic)"),
-        MODERATE("Moderate", "D&C (Standard)"),
-        HARD("Hard", "Recursive Priority Filter"),
-        EXPERT("Expert", "Threat Lattice Analysis");
+        EASY("Easy", "D&C (Basic)", 500),
+        MODERATE("Moderate", "D&C (Standard)", 3000),
+        HARD("Hard", "Recursive Priority Filter", 500),
+        EXPERT("Expert", "Threat Lattice Analysis", 500);
 
         public final String displayName;
         public final String algorithms;
+        // Deadline for one AI move; the greedy variants finish far sooner
+        public final long timeLimitMillis;
 
-        GameDifficulty(String displayName, String algorithms) {
+        GameDifficulty(String displayName, String algorithms, long timeLimitMillis) {
             this.displayName = displayName;
             this.algorithms = algorithms;
+            this.timeLimitMillis = timeLimitMillis;
         }
     }
 
@@ -77,6 +94,7 @@ public class Connect4UI extends JFrame {
     private static final Color COLOR_HIGHLIGHT = new Color(255, 255, 255);
     private static final Color COLOR_TEXT = new Color(30, 30, 30);
     private static final Color COLOR_TEXT_LIGHT = new Color(100, 100, 100);
+    private static final Color COLOR_HINT = new Color(22, 163, 74);
     private static final Color COLOR_PINK_BG = new Color(254, 226, 226);
     private static final Color COLOR_ORANGE_BG = new Color(255, 237, 213);
     private static final Color COLOR_GRAY_BG = new Color(243, 244, 246);
@@ -88,6 +106,11 @@ public class Connect4UI extends JFrame {
         // Initialize game components
         board = new Board();
         winChecker = new DivideAndConquer(board);
+        aiExecutor = new AIMoveExecutor(board);
+        aiEngine = new DivideAndConquer(aiExecutor.getBoard());
+        aiEngine.setProgress(searchProgress);
+        hintService = new HintService(board);
+        hintEngine = new DivideAndConquer(hintService.getBoard());
 
         // Print D&C algorithms info to console
         winChecker.printAlgorithmInfo();
@@ -104,6 +127,7 @@ public class Connect4UI extends JFrame {
         setupUI();
 
         setVisible(true);
+        precomputeHint();
     }
 
     /**
@@ -218,6 +242,10 @@ public class Connect4UI extends JFrame {
 
         mainPanel.add(centerPanel, BorderLayout.CENTER);
 
+        // Engine analysis strip, hidden until View > Show Analysis
+        analysisPanel = new AnalysisPanel(searchProgress, board.getCols(), COLOR_BG);
+        mainPanel.add(analysisPanel, BorderLayout.SOUTH);
+
         add(mainPanel, BorderLayout.CENTER);
 
         // Add menu bar
@@ -343,127 +371,10 @@ public class Connect4UI extends JFrame {
     }
 
     /**
-     * Create board panel with neumorphic cell design
+     * Create the board: one component painting every cell from cached sprites
      */
-    private JPanel createBoardPanel() {
-        JPanel panel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setColor(COLOR_BG);
-                g2d.fill(new RoundRectangle2D.Double(0, 0, getWidth(), getHeight(), 20, 20));
-                g2d.dispose();
-            }
-        };
-        panel.setLayout(new GridLayout(board.getRows(), board.getCols(), 8, 8));
-        panel.setBackground(COLOR_BG);
-        panel.setBorder(new EmptyBorder(15, 15, 15, 15));
-        panel.setOpaque(false);
-
-        cellPanels = new JPanel[board.getRows()][board.getCols()];
-
-        for (int row = 0; row < board.getRows(); row++) {
-            for (int col = 0; col < board.getCols(); col++) {
-                final int column = col;
-                JPanel cell = createNeumorphicCell();
-
-                // Add click listener to cells
-                cell.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        handleColumnClick(column);
-                    }
-
-                    @Override
-                    public void mouseEntered(MouseEvent e) {
-                        if (!gameOver) {
-                            cell.setCursor(new Cursor(Cursor.HAND_CURSOR));
-                        }
-                    }
-                });
-
-                cellPanels[row][col] = cell;
-                panel.add(cell);
-            }
-        }
-
-        return panel;
-    }
-
-    /**
-     * Create a neumorphic style cell with solid circular disc
-     */
-    private JPanel createNeumorphicCell() {
-        JPanel cell = new JPanel() {
-            private Color discColor = null;
-
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int cellSize = Math.min(getWidth(), getHeight()) - 8;
-                int cellX = (getWidth() - cellSize) / 2;
-                int cellY = (getHeight() - cellSize) / 2;
-
-                // Draw cell shadow (subtle, bottom-right)
-                g2d.setColor(new Color(200, 200, 200, 100));
-                g2d.fill(new RoundRectangle2D.Double(cellX + 2, cellY + 2, cellSize, cellSize, 18, 18));
-
-                // Draw white cell background (rounded rectangle)
-                g2d.setColor(COLOR_CARD_BG);
-                g2d.fill(new RoundRectangle2D.Double(cellX, cellY, cellSize, cellSize, 18, 18));
-
-                // Draw subtle border
-                g2d.setColor(new Color(220, 220, 220));
-                g2d.setStroke(new BasicStroke(1));
-                g2d.draw(new RoundRectangle2D.Double(cellX, cellY, cellSize - 1, cellSize - 1, 18, 18));
-
-                // If there's a disc, draw it as a solid circle inside the cell
-                if (discColor != null) {
-                    int discPadding = 8;
-                    int discSize = cellSize - (discPadding * 2);
-                    int discX = cellX + discPadding;
-                    int discY = cellY + discPadding;
-
-                    // Draw solid circular disc
-                    g2d.setColor(discColor);
-                    g2d.fillOval(discX, discY, discSize, discSize);
-                }
-
-                g2d.dispose();
-            }
-
-            public void setDiscColor(Color color) {
-                this.discColor = color;
-                repaint();
-            }
-
-            public Color getDiscColor() {
-                return discColor;
-            }
-        };
-
-        cell.setPreferredSize(new Dimension(90, 90));
-        cell.setOpaque(false);
-
-        return cell;
-    }
-
-    /**
-     * Helper method to set disc color on a cell
-     */
-    private void setDiscColor(JPanel cell, Color color) {
-        try {
-            java.lang.reflect.Method setDiscColorMethod = cell.getClass().getMethod("setDiscColor", Color.class);
-            setDiscColorMethod.invoke(cell, color);
-        } catch (Exception e) {
-            // Fallback
-            cell.setBackground(color);
-        }
+    private BoardComponent createBoardPanel() {
+        return new BoardComponent(board.getRows(), board.getCols(), COLOR_BG, this::handleColumnClick);
     }
 
     /**
@@ -481,6 +392,11 @@ public class Connect4UI extends JFrame {
         newGameItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         newGameItem.addActionListener(e -> resetGame());
 
+        JMenuItem hintItem = new JMenuItem("Hint");
+        hintItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        hintItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_H, InputEvent.CTRL_DOWN_MASK));
+        hintItem.addActionListener(e -> showHint());
+
         JMenuItem settingsItem = new JMenuItem("Change Difficulty");
         settingsItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         settingsItem.addActionListener(e -> {
@@ -493,10 +409,19 @@ public class Connect4UI extends JFrame {
         exitItem.addActionListener(e -> System.exit(0));
 
         gameMenu.add(newGameItem);
+        gameMenu.add(hintItem);
         gameMenu.add(settingsItem);
         gameMenu.addSeparator();
         gameMenu.add(exitItem);
 
+        JMenu viewMenu = new JMenu("View");
+        viewMenu.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+
+        JCheckBoxMenuItem analysisItem = new JCheckBoxMenuItem("Show Analysis");
+        analysisItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        analysisItem.addActionListener(e -> showAnalysis(analysisItem.isSelected()));
+        viewMenu.add(analysisItem);
+
         JMenu helpMenu = new JMenu("Help");
         helpMenu.setFont(new Font("Segoe UI", Font.PLAIN, 12));
 
@@ -507,6 +432,7 @@ public class Connect4UI extends JFrame {
         helpMenu.add(aboutItem);
 
         menuBar.add(gameMenu);
+        menuBar.add(viewMenu);
         menuBar.add(helpMenu);
 
         setJMenuBar(menuBar);
@@ -519,6 +445,17 @@ public class Connect4UI extends JFrame {
         // Update any difficulty-related UI if needed
     }
 
+    /**
+     * Show or hide the analysis panel, growing the (fixed-size) window to fit it
+     */
+    private void showAnalysis(boolean show) {
+        if (analysisPanel.isVisible() == show) return;
+        int height = analysisPanel.getPreferredSize().height;
+        analysisPanel.setVisible(show);
+        setSize(getWidth(), getHeight() + (show ? height : -height));
+        revalidate();
+    }
+
     /**
      * Show algorithm information dialog
      */
@@ -576,88 +513,138 @@ public class Connect4UI extends JFrame {
 
         // Check win/draw
         if (checkGameEnd()) {
+            hintService.cancel();
             return;
         }
 
         // Switch player
         currentPlayer = (currentPlayer == 'R') ? 'Y' : 'R';
+        // Two-player game: the other human may want a hint too
+        precomputeHint();
 
         // If AI mode and now Yellow's turn, let AI play
         if (playWithAI && currentPlayer == 'Y') {
             disableDropLabels();
 
-            // Use SwingWorker to run AI in background - FAST response
-            SwingWorker<Integer, Void> aiWorker = new SwingWorker<Integer, Void>() {
-                @Override
-                protected Integer doInBackground() {
-                    // Minimal delay for snappy response
-                    try {
-                        Thread.sleep(150); // Reduced from 800ms to 150ms
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-
-                    // Call D&C algorithm
-                    return getAIMoveByDifficulty('Y');
-                }
+            // AI thread searches its own copy of the board; the move lands as soon as it is ready
+            aiExecutor.request(board, difficulty.timeLimitMillis,
+                    cancellation -> getAIMoveByDifficulty('Y', cancellation), this::applyAIMove);
+        }
+    }
 
-                @Override
-                protected void done() {
-                    try {
-                        int aiMove = get();
-                        makeMove(aiMove, 'Y');
-
-                        if (!checkGameEnd()) {
-                            currentPlayer = 'R';
-                        }
-
-                        enableDropLabels();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
-            };
+    /**
+     * Play the AI's move (on the EDT, only for the current game)
+     */
+    private void applyAIMove(int aiMove) {
+        makeMove(aiMove, 'Y');
 
-            aiWorker.execute();
+        if (!checkGameEnd()) {
+            currentPlayer = 'R';
         }
+
+        enableDropLabels();
+        precomputeHint();
     }
 
     /**
-     * Get AI move based on difficulty level
+     * Get AI move based on difficulty level (runs on the AI thread, on aiEngine's board)
      */
-    private int getAIMoveByDifficulty(char player) {
+    private int getAIMoveByDifficulty(char player, SearchCancellation cancellation) {
+        aiEngine.setCancellation(cancellation);
+        try {
+            return searchByDifficulty(player);
+        } finally {
+            aiEngine.setCancellation(SearchCancellation.NONE);
+        }
+    }
+
+    private int searchByDifficulty(char player) {
         switch (difficulty) {
             case EASY:
                 // Greedy + D&C Column Split (Algo 2) - Fast, uses heuristics
-                return winChecker.findBestMove(player);
+                return aiEngine.findBestMove(player);
 
             case MODERATE:
                 // State-Space D&C (Algo 7) with depth 3
-                return winChecker.findBestMoveModerate(player, 3);
+                return aiEngine.findBestMoveModerate(player, 3);
 
             case HARD:
                 // Recursive Priority Filter (Algo 8)
-                return winChecker.findBestMoveRecursiveFilter(player);
+                return aiEngine.findBestMoveRecursiveFilter(player);
 
             case EXPERT:
                 // Threat Lattice Analysis (Algo 9)
-                return winChecker.findBestMoveThreatLattice(player);
+                return aiEngine.findBestMoveThreatLattice(player);
 
             default:
-                return winChecker.findBestMove(player);
+                return aiEngine.findBestMove(player);
+        }
+    }
+
+    /**
+     * Start the background search for the hint if a human is to move
+     */
+    private void precomputeHint() {
+        if (gameOver || !(!playWithAI || currentPlayer == 'R')) {
+            hintService.cancel();
+            return;
+        }
+        char player = currentPlayer;
+        hintService.precompute(board, cancellation -> searchHint(player, cancellation));
+    }
+
+    /**
+     * Hint search: Moderate's State-Space D&C, one ply deeper (runs on the hint thread, on hintEngine's board)
+     */
+    private int searchHint(char player, SearchCancellation cancellation) {
+        hintEngine.setCancellation(cancellation);
+        try {
+            // State-Space D&C one ply deeper than Moderate plays
+            return hintEngine.findBestMoveModerate(player, 4);
+        } finally {
+            hintEngine.setCancellation(SearchCancellation.NONE);
+        }
+    }
+
+    /**
+     * Mark the precomputed best column; it is only looked up, never searched here
+     */
+    private void showHint() {
+        if (gameOver || !(!playWithAI || currentPlayer == 'R')) {
+            return;
         }
+        int col = hintService.getHint(board);
+        if (col < 0) {
+            JOptionPane.showMessageDialog(this, "The hint is still being worked out. Try again in a moment.",
+                    "Hint", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        clearHint();
+        hintColumn = col;
+        dropLabels[col].setText("Hint");
+        dropLabels[col].setForeground(COLOR_HINT);
+    }
+
+    private void clearHint() {
+        if (hintColumn < 0) {
+            return;
+        }
+        dropLabels[hintColumn].setText("Drop");
+        dropLabels[hintColumn].setForeground(board.isValidMove(hintColumn) ? COLOR_TEXT_LIGHT : COLOR_SHADOW);
+        hintColumn = -1;
     }
 
     /**
      * Make a move on the board
      */
     private void makeMove(int col, char player) {
+        clearHint();
         int row = board.insertDisc(col, player);
 
         if (row != -1) {
             // Update UI
             Color color = (player == 'R') ? COLOR_RED : COLOR_YELLOW;
-            setDiscColor(cellPanels[row][col], color);
+            boardPanel.setDisc(row, col, color);
         }
     }
 
@@ -712,18 +699,18 @@ public class Connect4UI extends JFrame {
      * Reset game
      */
     private void resetGame() {
+        aiExecutor.cancel();
+        hintService.cancel();
         board.initializeBoard();
         currentPlayer = 'R';
         gameOver = false;
 
         // Reset UI
-        for (int row = 0; row < board.getRows(); row++) {
-            for (int col = 0; col < board.getCols(); col++) {
-                setDiscColor(cellPanels[row][col], null);
-            }
-        }
+        clearHint();
+        boardPanel.clear();
 
         enableDropLabels();
+        precomputeHint();
     }
 
     /**
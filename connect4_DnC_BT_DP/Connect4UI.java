@@ -5,6 +5,8 @@
  * - EASY: D&C + Greedy
  * - MODERATE: Dynamic Programming (Minimax + Memo depth 4)
  * - HARD: Backtracking (Iterative Deepening + PVS depth 6)
+ * The AI runs on AIMoveExecutor's thread against its own board copy, within the
+ * difficulty's time limit; New Game cancels a running search.
  */
 
 import javax.swing.*;
@@ -18,11 +20,22 @@ public class Connect4UI extends JFrame {
     // Game components
     private Board board;
     private Connect4AI winChecker;
+    // AI side: its own Connect4AI on the executor's board
+    private AIMoveExecutor aiExecutor;
+    private Connect4AI aiPlayer;
+
+    // Hints for the human, searched in the background whenever the human is to move
+    private HintService hintService;
+    private Connect4AI hintEngine;
+    private int hintColumn = -1;
+
+    // Live search progress, shown by the optional analysis panel
+    private final SearchProgress searchProgress = new SearchProgress();
+    private AnalysisPanel analysisPanel;
 
     // UI components
-    private JPanel[][] cellPanels;
     private JLabel[] dropLabels;
-    private JPanel boardPanel;
+    private BoardComponent boardPanel;
     private JPanel controlPanel;
     private JLabel difficultyLabel;
     private JLabel algorithmLabel;
@@ -36,6 +49,7 @@ public class Connect4UI extends JFrame {
     private char currentPlayer;
     private boolean gameOver;
     private GameDifficulty difficulty;
+    private boolean ponderEnabled = true;
 
     // Score tracking
     private int playerWins = 0;
@@ -44,16 +58,19 @@ public class Connect4UI extends JFrame {
 
     // Difficulty Enum
     public enum GameDifficulty {
-        EASY("Easy", "D&C + Greedy"),
-        MODERATE("Moderate", "Dynamic Programming (Minimax + Memo)"),
-        HARD("Hard", "Backtracking (Iterative Deepening + PVS)");
+        EASY("Easy", "D&C + Greedy", 500),
+        MODERATE("Moderate", "Dynamic Programming (Minimax + Memo)", 3000),
+        HARD("Hard", "Backtracking (Iterative Deepening + PVS)", 5000);
 
         public final String displayName;
         public final String algorithms;
+        // Deadline for one AI move; Hard keeps its last completed iteration
+        public final long timeLimitMillis;
 
-        GameDifficulty(String displayName, String algorithms) {
+        GameDifficulty(String displayName, String algorithms, long timeLimitMillis) {
             this.displayName = displayName;
             this.algorithms = algorithms;
+            this.timeLimitMillis = timeLimitMillis;
         }
     }
 
@@ -67,6 +84,7 @@ public class Connect4UI extends JFrame {
     private static final Color COLOR_HIGHLIGHT = new Color(255, 255, 255);
     private static final Color COLOR_TEXT = new Color(30, 30, 30);
     private static final Color COLOR_TEXT_LIGHT = new Color(100, 100, 100);
+    private static final Color COLOR_HINT = new Color(22, 163, 74);
     private static final Color COLOR_PINK_BG = new Color(254, 226, 226);
     private static final Color COLOR_ORANGE_BG = new Color(255, 237, 213);
     private static final Color COLOR_GRAY_BG = new Color(243, 244, 246);
@@ -78,6 +96,10 @@ public class Connect4UI extends JFrame {
         // Initialize game components
         board = new Board();
         winChecker = new Connect4AI(board);
+        aiExecutor = new AIMoveExecutor(board);
+        aiPlayer = new Connect4AI(aiExecutor.getBoard());
+        hintService = new HintService(board);
+        hintEngine = new Connect4AI(hintService.getBoard());
 
         // Print D&C algorithms info to console
         winChecker.printAlgorithmInfo();
@@ -94,6 +116,8 @@ public class Connect4UI extends JFrame {
         setupUI();
 
         setVisible(true);
+        precomputeHint();
+        startPondering();
     }
 
     /**
@@ -181,6 +205,10 @@ public class Connect4UI extends JFrame {
 
         mainPanel.add(centerPanel, BorderLayout.CENTER);
 
+        // Engine analysis strip, hidden until View > Show Analysis
+        analysisPanel = new AnalysisPanel(searchProgress, board.getCols(), COLOR_BG);
+        mainPanel.add(analysisPanel, BorderLayout.SOUTH);
+
         add(mainPanel, BorderLayout.CENTER);
 
         // Add menu bar
@@ -306,123 +334,10 @@ public class Connect4UI extends JFrame {
     }
 
     /**
-     * Create board panel with neumorphic cell design
-     */
-    private JPanel createBoardPanel() {
-        JPanel panel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setColor(COLOR_BG);
-                g2d.fill(new RoundRectangle2D.Double(0, 0, getWidth(), getHeight(), 20, 20));
-                g2d.dispose();
-            }
-        };
-        panel.setLayout(new GridLayout(board.getRows(), board.getCols(), 8, 8));
-        panel.setBackground(COLOR_BG);
-        panel.setBorder(new EmptyBorder(15, 15, 15, 15));
-        panel.setOpaque(false);
-
-        cellPanels = new JPanel[board.getRows()][board.getCols()];
-
-        for (int row = 0; row < board.getRows(); row++) {
-            for (int col = 0; col < board.getCols(); col++) {
-                final int column = col;
-                JPanel cell = createNeumorphicCell();
-
-                // Add click listener to cells
-                cell.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        handleColumnClick(column);
-                    }
-
-                    @Override
-                    public void mouseEntered(MouseEvent e) {
-                        if (!gameOver) {
-                            cell.setCursor(new Cursor(Cursor.HAND_CURSOR));
-                        }
-                    }
-                });
-
-                cellPanels[row][col] = cell;
-                panel.add(cell);
-            }
-        }
-
-        return panel;
-    }
-
-    /**
-     * Create a neumorphic style cell with solid circular disc
-     */
-    private JPanel createNeumorphicCell() {
-        JPanel cell = new JPanel() {
-            private Color discColor = null;
-
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int cellSize = Math.min(getWidth(), getHeight()) - 8;
-                int cellX = (getWidth() - cellSize) / 2;
-                int cellY = (getHeight() - cellSize) / 2;
-
-                // Draw cell shadow (subtle, bottom-right)
-                g2d.setColor(new Color(200, 200, 200, 100));
-                g2d.fill(new RoundRectangle2D.Double(cellX + 2, cellY + 2, cellSize, cellSize, 18, 18));
-
-                // Draw white cell background (rounded rectangle)
-                g2d.setColor(COLOR_CARD_BG);
-                g2d.fill(new RoundRectangle2D.Double(cellX, cellY, cellSize, cellSize, 18, 18));
-
-                // Draw subtle border
-                g2d.setColor(new Color(220, 220, 220));
-                g2d.setStroke(new BasicStroke(1));
-                g2d.draw(new RoundRectangle2D.Double(cellX, cellY, cellSize - 1, cellSize - 1, 18, 18));
-
-                // If there's a disc, draw it as a solid circle inside the cell
-                if (discColor != null) {
-                    int discPadding = 8;
-                    int discSize = cellSize - (discPadding * 2);
-                    int discX = cellX + discPadding;
-                    int discY = cellY + discPadding;
-
-                    // Draw solid circular disc
-                    g2d.setColor(discColor);
-                    g2d.fillOval(discX, discY, discSize, discSize);
-                }
-
-                g2d.dispose();
-            }
-
-            public void setDiscColor(Color color) {
-                this.discColor = color;
-                repaint();
-            }
-        };
-
-        cell.setPreferredSize(new Dimension(90, 90));
-        cell.setOpaque(false);
-
-        return cell;
-    }
-
-    /**
-     * Helper method to set disc color on a cell
+     * Create the board: one component painting every cell from cached sprites
      */
-    private void setDiscColor(JPanel cell, Color color) {
-        try {
-            java.lang.reflect.Method setDiscColorMethod = cell.getClass().getMethod("setDiscColor", Color.class);
-            setDiscColorMethod.invoke(cell, color);
-        } catch (Exception e) {
-            // Fallback
-            cell.setBackground(color);
-        }
+    private BoardComponent createBoardPanel() {
+        return new BoardComponent(board.getRows(), board.getCols(), COLOR_BG, this::handleColumnClick);
     }
 
     /**
@@ -440,10 +355,23 @@ public class Connect4UI extends JFrame {
         newGameItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         newGameItem.addActionListener(e -> resetGame());
 
+        JMenuItem hintItem = new JMenuItem("Hint");
+        hintItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        hintItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_H, InputEvent.CTRL_DOWN_MASK));
+        hintItem.addActionListener(e -> showHint());
+
         JMenuItem settingsItem = new JMenuItem("Change Difficulty");
         settingsItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         settingsItem.addActionListener(e -> {
             showGameModeDialog();
+            startPondering();
+        });
+
+        JCheckBoxMenuItem ponderItem = new JCheckBoxMenuItem("Think on My Turn", ponderEnabled);
+        ponderItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        ponderItem.addActionListener(e -> {
+            ponderEnabled = ponderItem.isSelected();
+            startPondering();
         });
 
         JMenuItem exitItem = new JMenuItem("Exit");
@@ -451,10 +379,20 @@ public class Connect4UI extends JFrame {
         exitItem.addActionListener(e -> System.exit(0));
 
         gameMenu.add(newGameItem);
+        gameMenu.add(hintItem);
         gameMenu.add(settingsItem);
+        gameMenu.add(ponderItem);
         gameMenu.addSeparator();
         gameMenu.add(exitItem);
 
+        JMenu viewMenu = new JMenu("View");
+        viewMenu.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+
+        JCheckBoxMenuItem analysisItem = new JCheckBoxMenuItem("Show Analysis");
+        analysisItem.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        analysisItem.addActionListener(e -> showAnalysis(analysisItem.isSelected()));
+        viewMenu.add(analysisItem);
+
         JMenu helpMenu = new JMenu("Help");
         helpMenu.setFont(new Font("Segoe UI", Font.PLAIN, 12));
 
@@ -465,11 +403,23 @@ public class Connect4UI extends JFrame {
         helpMenu.add(aboutItem);
 
         menuBar.add(gameMenu);
+        menuBar.add(viewMenu);
         menuBar.add(helpMenu);
 
         setJMenuBar(menuBar);
     }
 
+    /**
+     * Show or hide the analysis panel, growing the (fixed-size) window to fit it
+     */
+    private void showAnalysis(boolean show) {
+        if (analysisPanel.isVisible() == show) return;
+        int height = analysisPanel.getPreferredSize().height;
+        analysisPanel.setVisible(show);
+        setSize(getWidth(), getHeight() + (show ? height : -height));
+        revalidate();
+    }
+
     /**
      * Show algorithm information dialog
      */
@@ -483,7 +433,9 @@ public class Connect4UI extends JFrame {
                 "HARD - Backtracking:\n" +
                 "Iterative Deepening + PVS (depth 6).\n" +
                 "Try move, recurse, undo. No memoization.\n\n" +
-                "Moderate and Hard use strong minimax search.";
+                "Moderate and Hard use strong minimax search.\n" +
+                "With Game > Think on My Turn they search their answer\n" +
+                "to each of your replies while you think.";
 
         JTextArea textArea = new JTextArea(info);
         textArea.setEditable(false);
@@ -514,6 +466,8 @@ public class Connect4UI extends JFrame {
 
         // Check win/draw
         if (checkGameEnd()) {
+            aiExecutor.cancel();   // stop pondering
+            hintService.cancel();
             return;
         }
 
@@ -524,64 +478,129 @@ public class Connect4UI extends JFrame {
         if (currentPlayer == 'Y') {
             disableDropLabels();
 
-            SwingWorker<Integer, Void> aiWorker = new SwingWorker<Integer, Void>() {
-                @Override
-                protected Integer doInBackground() {
-                    try {
-                        Thread.sleep(200);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                    return getAIMoveByDifficulty('Y');
-                }
+            // AI thread searches its own copy of the board; the move lands as soon as it is ready
+            aiExecutor.request(board, difficulty.timeLimitMillis,
+                    cancellation -> getAIMoveByDifficulty('Y', cancellation, searchProgress), this::applyAIMove);
+        }
+    }
 
-                @Override
-                protected void done() {
-                    try {
-                        int aiMove = get();
-                        makeMove(aiMove, 'Y');
-
-                        if (!checkGameEnd()) {
-                            currentPlayer = 'R';
-                        }
-
-                        enableDropLabels();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
-            };
+    /**
+     * Play the AI's move (on the EDT, only for the current game)
+     */
+    private void applyAIMove(int aiMove) {
+        makeMove(aiMove, 'Y');
+
+        if (!checkGameEnd()) {
+            currentPlayer = 'R';
+        }
+
+        enableDropLabels();
+        precomputeHint();
+        startPondering();
+    }
+
+    /**
+     * While Red thinks, let the AI thread search Yellow's answer to each Red reply
+     * (Moderate and Hard); the matching answer is played at once when Red moves.
+     * Restarted whenever the position, difficulty or setting changes on Red's turn.
+     */
+    private void startPondering() {
+        if (gameOver || currentPlayer != 'R') return;   // game over, or the AI is moving
+        aiExecutor.cancel();
+        if (ponderEnabled && difficulty != GameDifficulty.EASY) {
+            // Not shown in the analysis panel: these are positions Red may never play
+            aiExecutor.ponder(board, 'R',
+                    cancellation -> getAIMoveByDifficulty('Y', cancellation, SearchProgress.NONE));
+        }
+    }
+
+    /**
+     * Get AI move based on difficulty level (runs on the AI thread, on aiPlayer's board),
+     * reporting to progress
+     */
+    private int getAIMoveByDifficulty(char player, SearchCancellation cancellation, SearchProgress progress) {
+        aiPlayer.setCancellation(cancellation);
+        aiPlayer.setProgress(progress);
+        try {
+            switch (difficulty) {
+                case EASY:
+                    return aiPlayer.findBestMove(player);
+                case MODERATE:
+                    return aiPlayer.findBestMoveModerate(player);
+                case HARD:
+                    return aiPlayer.findBestMoveHard(player);
+                default:
+                    return aiPlayer.findBestMove(player);
+            }
+        } finally {
+            aiPlayer.setCancellation(SearchCancellation.NONE);
+        }
+    }
 
-            aiWorker.execute();
+    /**
+     * Start the background search for the hint if a human is to move
+     */
+    private void precomputeHint() {
+        if (gameOver || currentPlayer != 'R') {
+            hintService.cancel();
+            return;
         }
+        char player = currentPlayer;
+        hintService.precompute(board, cancellation -> searchHint(player, cancellation));
     }
 
     /**
-     * Get AI move based on difficulty level
+     * Hint search: the DP search (runs on the hint thread, on hintEngine's board)
      */
-    private int getAIMoveByDifficulty(char player) {
-        switch (difficulty) {
-            case EASY:
-                return winChecker.findBestMove(player);
-            case MODERATE:
-                return winChecker.findBestMoveModerate(player);
-            case HARD:
-                return winChecker.findBestMoveHard(player);
-            default:
-                return winChecker.findBestMove(player);
+    private int searchHint(char player, SearchCancellation cancellation) {
+        hintEngine.setCancellation(cancellation);
+        try {
+            // DP search; its transposition table stays warm from the previous hints
+            return hintEngine.findBestMoveModerate(player);
+        } finally {
+            hintEngine.setCancellation(SearchCancellation.NONE);
         }
     }
 
+    /**
+     * Mark the precomputed best column; it is only looked up, never searched here
+     */
+    private void showHint() {
+        if (gameOver || currentPlayer != 'R') {
+            return;
+        }
+        int col = hintService.getHint(board);
+        if (col < 0) {
+            JOptionPane.showMessageDialog(this, "The hint is still being worked out. Try again in a moment.",
+                    "Hint", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        clearHint();
+        hintColumn = col;
+        dropLabels[col].setText("Hint");
+        dropLabels[col].setForeground(COLOR_HINT);
+    }
+
+    private void clearHint() {
+        if (hintColumn < 0) {
+            return;
+        }
+        dropLabels[hintColumn].setText("Drop");
+        dropLabels[hintColumn].setForeground(board.isValidMove(hintColumn) ? COLOR_TEXT_LIGHT : COLOR_SHADOW);
+        hintColumn = -1;
+    }
+
     /**
      * Make a move on the board
      */
     private void makeMove(int col, char player) {
+        clearHint();
         int row = board.insertDisc(col, player);
 
         if (row != -1) {
             // Update UI
             Color color = (player == 'R') ? COLOR_RED : COLOR_YELLOW;
-            setDiscColor(cellPanels[row][col], color);
+            boardPanel.setDisc(row, col, color);
         }
     }
 
@@ -636,18 +655,20 @@ public class Connect4UI extends JFrame {
      * Reset game
      */
     private void resetGame() {
+        // The engines' DP caches would otherwise grow from game to game
+        aiExecutor.reset(aiPlayer::clearCache);
+        hintService.reset(hintEngine::clearCache);
         board.initializeBoard();
         currentPlayer = 'R';
         gameOver = false;
 
         // Reset UI
-        for (int row = 0; row < board.getRows(); row++) {
-            for (int col = 0; col < board.getCols(); col++) {
-                setDiscColor(cellPanels[row][col], null);
-            }
-        }
+        clearHint();
+        boardPanel.clear();
 
         enableDropLabels();
+        precomputeHint();
+        startPondering();
     }
 
     /**
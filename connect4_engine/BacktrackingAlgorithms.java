@@ -12,17 +12,26 @@ public class BacktrackingAlgorithms {
 
     private final Board board;
     private final DivideAndConquerGreedy dnc;
+    // K: discs in a row that win (4, or the Connect-K length); sizes the ordering windows
+    private final int connectLength;
 
     private static final int WIN_SCORE = 100000;
     private static final int MAX_DEPTH = 10;
     private final int[] killerMoves;
     private final int[][] historyHeuristic;
+    private int lastMoveScore;
+    private final SearchStats stats = new SearchStats();
+    private int iterationDepth;
+    private SearchCancellation cancellation = SearchCancellation.NONE;
+    private SearchProgress progress = SearchProgress.NONE;
+    private boolean aborted;
 
     public BacktrackingAlgorithms(Board board, DivideAndConquerGreedy dnc) {
         this.board = board;
         this.dnc = dnc;
+        this.connectLength = dnc.getConnectLength();
         this.killerMoves = new int[MAX_DEPTH * 2];
-        this.historyHeuristic = new int[7][2];
+        this.historyHeuristic = new int[board.getCols()][2];
         Arrays.fill(killerMoves, -1);
     }
 
@@ -120,12 +129,16 @@ public class BacktrackingAlgorithms {
     // Decision -> Explore -> Undo for move safety validation.
     // Checks: (1) opponent immediate win, (2) opponent double threat, (3) opponent fork setup,
     // (4) trapped-in-two (opponent forces win in 2), (5) our move creates fork (safe).
+    // Check (1) is a bitmask lookup when the board has move masks, so a move that hands
+    // the opponent a win is rejected before any disc is placed.
     // Time: O(C^2 * R*C) worst case
     // =====================================================================
 
     public boolean isSafeMove(char player, int col) {
         if (!isColumnValid(col))
             return false;
+        if (dnc.hasMoveMasks() && (board.nonLosingMovesMask(player) & (1 << col)) == 0)
+            return false;
         char opponent = getOpponent(player);
 
         simulatePlaceDisc(col, player);
@@ -250,22 +263,40 @@ public class BacktrackingAlgorithms {
     // =====================================================================
 
     public int findBestMoveMinimaxBacktracking(char player, int depth) {
+        stats.start();
+        progress.begin(board.getCols());
+        int move = searchIterativeDeepening(player, depth);
+        stats.stop();
+        progress.finish(move, stats.nodes);
+        return move;
+    }
+
+    private int searchIterativeDeepening(char player, int depth) {
+        stats.node(0);
+        aborted = false;
         Arrays.fill(killerMoves, -1);
         for (int[] row : historyHeuristic) Arrays.fill(row, 0);
 
         char opp = getOpponent(player);
 
         int win = findImmediateWin(player);
-        if (win != -1)
+        if (win != -1) {
+            lastMoveScore = WIN_SCORE;
             return win;
+        }
         int block = findImmediateWin(opp);
-        if (block != -1)
+        if (block != -1) {
+            lastMoveScore = 0;
             return block;
+        }
 
         List<Integer> moves = dnc.findValidMovesDnC(0, board.getCols() - 1);
-        if (moves.isEmpty())
+        if (moves.isEmpty()) {
+            lastMoveScore = 0;
             return -1;
+        }
 
+        DivideAndConquerGreedy.retainColumns(moves, dnc.searchMovesMask(player));
         orderMovesByHeuristic(moves, player);
         int searchDepth = Math.min(Math.max(2, depth), MAX_DEPTH);
 
@@ -273,29 +304,66 @@ public class BacktrackingAlgorithms {
         int bestScore = Integer.MIN_VALUE;
 
         for (int d = 2; d <= searchDepth; d += 2) {
+            iterationDepth = d;
+            progress.iteration(d);
             int currentBest = moves.get(0);
             int currentScore = Integer.MIN_VALUE;
             for (int col : moves) {
                 board.insertDisc(col, player);
                 int score = -pvs(player, d - 1, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
                 board.removeDisc(col);
+                if (aborted) break;
                 recordKiller(col, 0);
                 recordHistory(col, player, 0);
                 if (score > currentScore || (score == currentScore && centerDistance(col) < centerDistance(currentBest))) {
                     currentScore = score;
                     currentBest = col;
                 }
+                progress.column(col, score, currentBest, stats.nodes);
             }
+            // Cancelled: the last completed iteration stands
+            if (aborted) break;
             best = currentBest;
             bestScore = currentScore;
             if (bestScore >= WIN_SCORE - MAX_DEPTH)
                 break;
         }
+        lastMoveScore = bestScore == Integer.MIN_VALUE ? 0 : bestScore;
         return best;
     }
 
+    /** Cancellation polled by findBestMoveMinimaxBacktracking from now on (SearchCancellation.NONE to clear). */
+    public void setCancellation(SearchCancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /** Where findBestMoveMinimaxBacktracking reports each root move of each iteration (SearchProgress.NONE to clear). */
+    public void setProgress(SearchProgress progress) {
+        this.progress = progress;
+    }
+
+    /** Whether the last findBestMoveMinimaxBacktracking was cut short by its cancellation. */
+    public boolean wasAborted() {
+        return aborted;
+    }
+
+    /** Score of the last findBestMoveMinimaxBacktracking decision (0 when the move was a forced block). */
+    public int getLastMoveScore() {
+        return lastMoveScore;
+    }
+
+    /** Counters of the last findBestMoveMinimaxBacktracking call (no TT: probes stay 0). */
+    public SearchStats getLastSearchStats() {
+        return stats.copy();
+    }
+
     private int pvs(char player, int depth, int alpha, int beta, boolean isMax) {
         char opp = getOpponent(player);
+        stats.node(iterationDepth - depth);
+        if (aborted || ((stats.nodes & 255) == 0 && cancellation.shouldStop(stats.nodes))) {
+            aborted = true;
+            return 0;
+        }
 
         if (checkPlayerWins(player))
             return WIN_SCORE + depth;
@@ -304,14 +372,16 @@ public class BacktrackingAlgorithms {
         if (board.isBoardFull() || depth <= 0)
             return dnc.evaluatePositionDnC(player);
 
+        char mover = isMax ? player : opp;
         List<Integer> moves = dnc.findValidMovesDnC(0, board.getCols() - 1);
-        orderMovesByHeuristic(moves, isMax ? player : opp);
+        DivideAndConquerGreedy.retainColumns(moves, dnc.searchMovesMask(mover));
+        orderMovesByHeuristic(moves, mover);
 
         int best = Integer.MIN_VALUE;
-        char mover = isMax ? player : opp;
         boolean first = true;
 
-        for (int col : moves) {
+        for (int i = 0; i < moves.size(); i++) {
+            int col = moves.get(i);
             board.insertDisc(col, mover);
             int score;
             if (first) {
@@ -323,12 +393,15 @@ public class BacktrackingAlgorithms {
                     score = -pvs(player, depth - 1, -beta, -score, !isMax);
             }
             board.removeDisc(col);
+            if (aborted) return 0;
             recordKiller(col, MAX_DEPTH - depth);
             recordHistory(col, mover, MAX_DEPTH - depth);
             best = Math.max(best, score);
             alpha = Math.max(alpha, score);
-            if (beta <= alpha)
+            if (beta <= alpha) {
+                stats.cutoff(i);
                 break;
+            }
         }
         return best;
     }
@@ -368,7 +441,7 @@ public class BacktrackingAlgorithms {
         for (int[] d : dirs) {
             int fwd = countPiecesFrom(g, row + d[0], col + d[1], d[0], d[1], player);
             int bwd = countPiecesFrom(g, row - d[0], col - d[1], -d[0], -d[1], player);
-            if (1 + fwd + bwd >= 3) count++;
+            if (1 + fwd + bwd >= connectLength - 1) count++;
         }
         return count;
     }
@@ -389,7 +462,7 @@ public class BacktrackingAlgorithms {
     }
 
     private int getHistoryScore(int col) {
-        return (col >= 0 && col < 7) ? historyHeuristic[col][0] + historyHeuristic[col][1] : 0;
+        return (col >= 0 && col < historyHeuristic.length) ? historyHeuristic[col][0] + historyHeuristic[col][1] : 0;
     }
 
     private void recordKiller(int col, int depth) {
@@ -398,13 +471,13 @@ public class BacktrackingAlgorithms {
     }
 
     private void recordHistory(int col, char player, int depth) {
-        if (col >= 0 && col < 7)
+        if (col >= 0 && col < historyHeuristic.length)
             historyHeuristic[col][player == 'R' ? 0 : 1] += (1 << Math.min(depth, 10));
     }
 
     private int countPiecesFrom(char[][] g, int r, int c, int dr, int dc, char p) {
         int n = 0;
-        for (int i = 0; i < 3; i++) {
+        for (int i = 0; i < connectLength - 1; i++) {
             int nr = r + i * dr, nc = c + i * dc;
             if (nr < 0 || nr >= board.getRows() || nc < 0 || nc >= board.getCols() || g[nr][nc] != p)
                 return n;
@@ -507,10 +580,10 @@ public class BacktrackingAlgorithms {
             int fwd = countPiecesFrom(g, row + d[0], col + d[1], d[0], d[1], player);
             int bwd = countPiecesFrom(g, row - d[0], col - d[1], -d[0], -d[1], player);
             int lineLen = 1 + fwd + bwd;
-            if (lineLen == 2)
-                total += 20;
-            else if (lineLen >= 3)
+            if (lineLen >= connectLength - 1)
                 total += 50;
+            else if (lineLen >= 2)
+                total += 20;
         }
         return total;
     }
@@ -520,18 +593,18 @@ public class BacktrackingAlgorithms {
         int rows = board.getRows(), cols = board.getCols();
         int[][] dirs = {{0, 1}, {1, 0}, {1, 1}, {-1, 1}};
         for (int[] d : dirs) {
-            for (int offset = 0; offset < 4; offset++) {
+            for (int offset = 0; offset < connectLength; offset++) {
                 int sr = row - offset * d[0], sc = col - offset * d[1];
-                int er = sr + 3 * d[0], ec = sc + 3 * d[1];
+                int er = sr + (connectLength - 1) * d[0], ec = sc + (connectLength - 1) * d[1];
                 if (sr < 0 || sc < 0 || sr >= rows || sc >= cols || er >= rows || ec >= cols || er < 0 || ec < 0)
                     continue;
                 int oppCount = 0;
-                for (int i = 0; i < 4; i++) {
+                for (int i = 0; i < connectLength; i++) {
                     int nr = sr + i * d[0], nc = sc + i * d[1];
                     if (nr >= 0 && nr < rows && nc >= 0 && nc < cols && g[nr][nc] == opp)
                         oppCount++;
                 }
-                if (oppCount == 3)
+                if (oppCount == connectLength - 1)
                     return 100;
             }
         }
@@ -0,0 +1,261 @@
+/**
+ * Board.java
+ * Manages the Connect4 game board state
+ * Contains board operations: insert, undo, check valid moves
+ * Board size defaults to 6x7; Connect-K mode uses larger grids (up to about 15x15).
+ * Boards whose (rows + 1) * cols cells fit a long also keep a bitboard mirror of the
+ * discs, updated with every insert/remove, for the O(1) Connect 4 move masks.
+ */
+
+public class Board {
+    private static final int DEFAULT_ROWS = 6;
+    private static final int DEFAULT_COLS = 7;
+
+    private final int rows;
+    private final int cols;
+
+    private char[][] board;
+    // Discs per column: O(1) drop row and occupied-cell iteration
+    private final int[] heights;
+    // Successful insertDisc calls; greedy engines report trial placements as their node count
+    private long placements;
+
+    // Bitboard mirror: bit col * (rows + 1) + height holds a disc; the extra bit on top
+    // of every column stays 0 so shifted lines never wrap into the next column
+    private final boolean bitboard;
+    private final int bitHeight;
+    private final long bottomRow;     // lowest cell of every column
+    private final long cellMask;      // every playable cell
+    private long redBits;
+    private long yellowBits;
+
+    // Constructor
+    public Board() {
+        this(DEFAULT_ROWS, DEFAULT_COLS);
+    }
+
+    // Constructor for custom grid sizes (Connect-K mode)
+    public Board(int rows, int cols) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Invalid board size " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        board = new char[rows][cols];
+        heights = new int[cols];
+        bitHeight = rows + 1;
+        bitboard = (long) bitHeight * cols <= 64;
+        long bottom = 0;
+        if (bitboard) {
+            for (int c = 0; c < cols; c++) bottom |= 1L << (c * bitHeight);
+        }
+        bottomRow = bottom;
+        cellMask = bottom * ((1L << rows) - 1);
+        initializeBoard();
+    }
+
+    // Copy constructor: same size and discs (placement count starts at 0)
+    public Board(Board other) {
+        this(other.rows, other.cols);
+        copyFrom(other);
+    }
+
+    // Overwrite this board with other's discs; both boards must have the same size
+    public void copyFrom(Board other) {
+        if (other.rows != rows || other.cols != cols) {
+            throw new IllegalArgumentException("Board size differs: " + other.rows + "x" + other.cols);
+        }
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(other.board[i], 0, board[i], 0, cols);
+        }
+        System.arraycopy(other.heights, 0, heights, 0, cols);
+        redBits = other.redBits;
+        yellowBits = other.yellowBits;
+    }
+
+    // Initialize empty board
+    public void initializeBoard() {
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                board[i][j] = ' ';
+            }
+        }
+        for (int j = 0; j < cols; j++) {
+            heights[j] = 0;
+        }
+        redBits = 0;
+        yellowBits = 0;
+    }
+
+    // Get board array
+    public char[][] getBoard() {
+        return board;
+    }
+
+    // Get dimensions
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Check if column is valid for move
+    public boolean isValidMove(int col) {
+        if (col < 0 || col >= cols) {
+            return false;
+        }
+        return heights[col] < rows;
+    }
+
+    // Insert disc into column (returns row where disc landed, -1 if invalid)
+    public int insertDisc(int col, char player) {
+        if (!isValidMove(col)) {
+            return -1;
+        }
+
+        // Drop disc to lowest available row
+        int row = rows - 1 - heights[col];
+        board[row][col] = player;
+        if (bitboard) {
+            long bit = 1L << (col * bitHeight + heights[col]);
+            if (player == 'R') redBits |= bit;
+            else yellowBits |= bit;
+        }
+        heights[col]++;
+        placements++;
+        return row;
+    }
+
+    // Remove disc from column (undo move)
+    public void removeDisc(int col) {
+        if (col < 0 || col >= cols || heights[col] == 0) {
+            return;
+        }
+        int row = rows - heights[col];
+        board[row][col] = ' ';
+        heights[col]--;
+        if (bitboard) {
+            long bit = ~(1L << (col * bitHeight + heights[col]));
+            redBits &= bit;
+            yellowBits &= bit;
+        }
+    }
+
+    // Check if board is full
+    public boolean isBoardFull() {
+        for (int col = 0; col < cols; col++) {
+            if (heights[col] < rows) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Get count of discs in column
+    public int getColumnCount(int col) {
+        return heights[col];
+    }
+
+    // Total successful insertDisc calls since construction
+    public long getPlacementCount() {
+        return placements;
+    }
+
+    // Whether the bitboard mirror (and so the move masks) exists for this size
+    public boolean hasBitboard() {
+        return bitboard;
+    }
+
+    /**
+     * Columns where player connects four right now, as a mask (bit c = column c).
+     * Connect 4 rules only; requires hasBitboard().
+     */
+    public int winningMovesMask(char player) {
+        long occupied = occupied();
+        return columnsOf(winningCells(discsOf(player), occupied) & playableCells(occupied));
+    }
+
+    /**
+     * Columns player can drop into without handing the opponent a four on the next move,
+     * as a mask (bit c = column c), in O(1) instead of trying every reply:
+     * - if the opponent has one immediate win, only the column that blocks it
+     * - if it has two or more, none (0): every move loses
+     * - never a column whose landing cell is directly under an opponent winning cell
+     * player's own immediate wins are not considered; see winningMovesMask.
+     * Connect 4 rules only; requires hasBitboard().
+     */
+    public int nonLosingMovesMask(char player) {
+        long occupied = occupied();
+        long moves = playableCells(occupied);
+        long threats = winningCells(discsOf(player == 'R' ? 'Y' : 'R'), occupied);
+        long forced = moves & threats;
+        if (forced != 0) {
+            if ((forced & (forced - 1)) != 0) return 0;
+            moves = forced;
+        }
+        return columnsOf(moves & ~(threats >>> 1));
+    }
+
+    private long occupied() {
+        if (!bitboard) {
+            throw new IllegalStateException("No bitboard for a " + rows + "x" + cols + " board");
+        }
+        return redBits | yellowBits;
+    }
+
+    private long discsOf(char player) {
+        return player == 'R' ? redBits : yellowBits;
+    }
+
+    // Lowest empty cell of every non-full column
+    private long playableCells(long occupied) {
+        return (occupied + bottomRow) & cellMask;
+    }
+
+    // Empty cells that would complete four for the owner of discs
+    private long winningCells(long discs, long occupied) {
+        long r = (discs << 1) & (discs << 2) & (discs << 3);  // vertical
+        r |= lineWins(discs, bitHeight);                        // horizontal
+        r |= lineWins(discs, bitHeight - 1);                    // diagonal down
+        r |= lineWins(discs, bitHeight + 1);                    // diagonal up
+        return r & (cellMask ^ occupied);
+    }
+
+    // Cells completing three discs spaced shift apart, with the gap at either end or inside
+    private static long lineWins(long discs, int shift) {
+        long p = (discs << shift) & (discs << (2 * shift));
+        long r = p & (discs << (3 * shift));
+        r |= p & (discs >>> shift);
+        p = (discs >>> shift) & (discs >>> (2 * shift));
+        r |= p & (discs << shift);
+        r |= p & (discs >>> (3 * shift));
+        return r;
+    }
+
+    private int columnsOf(long cells) {
+        int mask = 0;
+        long column = (1L << rows) - 1;
+        for (int c = 0; c < cols; c++, column <<= bitHeight) {
+            if ((cells & column) != 0) mask |= 1 << c;
+        }
+        return mask;
+    }
+
+    // Print board (for debugging)
+    public void printBoard() {
+        System.out.println("\n=== Current Board ===");
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                System.out.print("| " + board[i][j] + " ");
+            }
+            System.out.println("|");
+        }
+        for (int j = 0; j < cols; j++) {
+            System.out.print(String.format("%3d ", j));
+        }
+        System.out.println();
+        System.out.println();
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * CacheClearEvent.java
+ * JFR event for DynamicProgrammingAlgorithms.clearCache (all DP caches dropped at once).
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("connect4.CacheClear")
+@Label("Connect4 Cache Clear")
+@Category("Connect4")
+@Description("Transposition table, evaluation, win-move and move-order caches cleared")
+public class CacheClearEvent extends Event {
+
+    @Label("TT Entries")
+    int transpositionEntries;
+
+    @Label("Evaluation Entries")
+    int evaluationEntries;
+
+    @Label("Win-Move Entries")
+    int winMoveEntries;
+
+    @Label("Move-Order Entries")
+    int moveOrderEntries;
+}
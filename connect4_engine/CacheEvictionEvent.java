@@ -0,0 +1,27 @@
+/**
+ * CacheEvictionEvent.java
+ * JFR event for one cache eviction pass (DP transposition table, evaluation, win-move
+ * or move-order cache).
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("connect4.CacheEviction")
+@Label("Connect4 Cache Eviction")
+@Category("Connect4")
+@Description("Entries dropped from a search cache because it was full")
+public class CacheEvictionEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Entries Before")
+    int entriesBefore;
+
+    @Label("Entries Removed")
+    int entriesRemoved;
+}
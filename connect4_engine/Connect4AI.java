@@ -0,0 +1,148 @@
+/**
+ * Connect4AI.java
+ * Coordinator for Connect4 algorithms. Delegates to paradigm-specific classes.
+ */
+
+import java.util.*;
+
+public class Connect4AI {
+
+    private final Board board;
+    private final DivideAndConquerGreedy dnc;
+    private final BacktrackingAlgorithms backtracking;
+    private final DynamicProgrammingAlgorithms dp;
+    private int lastMoveScore;
+    private SearchStats lastSearchStats = new SearchStats();
+
+    public Connect4AI(Board board) {
+        this(board, 4);
+    }
+
+    /**
+     * Connect-K mode: any connect length other than 4 swaps in the sparse
+     * window-table evaluator; Backtracking and DP search cores are unchanged and
+     * size their move-ordering threat checks from its getConnectLength().
+     */
+    public Connect4AI(Board board, int connectLength) {
+        this.board = board;
+        this.dnc = (connectLength == 4)
+                ? new DivideAndConquerGreedy(board)
+                : new ConnectKEvaluator(board, connectLength);
+        this.backtracking = new BacktrackingAlgorithms(board, dnc);
+        this.dp = new DynamicProgrammingAlgorithms(board, dnc);
+    }
+
+    public boolean checkWin(char player) {
+        return dnc.checkWin(player);
+    }
+
+    public int findBestMove(char player) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        SearchStats stats = new SearchStats();
+        stats.start();
+        long placements = board.getPlacementCount();
+        int move = findBestMoveEasy(player);
+        stats.nodes = board.getPlacementCount() - placements;
+        stats.stop();
+        lastSearchStats = stats;
+        SearchEvent.finish(event, "Connect4AI", "Easy", stats, move);
+        return move;
+    }
+
+    private int findBestMoveEasy(char player) {
+        char opp = (player == 'R') ? 'Y' : 'R';
+
+        int win = backtracking.findImmediateWin(player);
+        if (win != -1) return win;
+        int block = backtracking.findImmediateBlock(opp);
+        if (block != -1) return block;
+
+        List<Integer> valid = dnc.findValidMovesDnC(0, board.getCols() - 1);
+        if (valid.isEmpty()) return -1;
+
+        List<Integer> safe = new ArrayList<>();
+        for (int col : valid)
+            if (backtracking.isSafeMove(player, col)) safe.add(col);
+        if (safe.isEmpty()) {
+            return backtracking.findBestMoveThreatHeuristic(player);
+        }
+
+        int[] arr = new int[safe.size()];
+        for (int i = 0; i < safe.size(); i++) arr[i] = safe.get(i);
+
+        DivideAndConquerGreedy.WinChecker wc = p -> dnc.checkWin(p);
+        DivideAndConquerGreedy.SafeMoveChecker sc = (p, c) -> backtracking.isSafeMove(p, c);
+        return dnc.findBestMoveGreedy(player, arr, wc, sc);
+    }
+
+    public int findBestMoveModerate(char player) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        int move = dp.findBestMoveHard(player, 4);
+        lastMoveScore = dp.getLastMoveScore();
+        lastSearchStats = dp.getLastSearchStats();
+        SearchEvent.finish(event, "Connect4AI", "Moderate", lastSearchStats, move);
+        return move;
+    }
+
+    /** Drop what the Moderate (DP) search remembers between moves; call it for a new game. */
+    public void clearCache() {
+        dp.clearCache();
+    }
+
+    /** Moderate (DP) score of every column for player, Integer.MIN_VALUE for full columns. */
+    public int[] scoreColumnsModerate(char player) {
+        int[] scores = dp.scoreColumns(player, 4);
+        lastSearchStats = dp.getLastSearchStats();
+        return scores;
+    }
+
+    public int findBestMoveHard(char player) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        int move = backtracking.findBestMoveMinimaxBacktracking(player, 6);
+        lastMoveScore = backtracking.getLastMoveScore();
+        lastSearchStats = backtracking.getLastSearchStats();
+        SearchEvent.finish(event, "Connect4AI", "Hard", lastSearchStats, move);
+        return move;
+    }
+
+    /**
+     * Cancellation for the Moderate (DP) and Hard (Backtracking) searches; Easy runs a
+     * fixed handful of placements and never polls. SearchCancellation.NONE to clear.
+     */
+    public void setCancellation(SearchCancellation cancellation) {
+        dp.setCancellation(cancellation);
+        backtracking.setCancellation(cancellation);
+    }
+
+    /** Live progress of the Moderate and Hard searches (SearchProgress.NONE to clear). */
+    public void setProgress(SearchProgress progress) {
+        dp.setProgress(progress);
+        backtracking.setProgress(progress);
+    }
+
+    /** Search score of the last Moderate/Hard move (Easy does not search). */
+    public int getLastMoveScore() {
+        return lastMoveScore;
+    }
+
+    /** Counters of the last move: Easy reports trial placements, Moderate/Hard their search stats. */
+    public SearchStats getLastSearchStats() {
+        return lastSearchStats.copy();
+    }
+
+    /** Static D&C evaluation of the current board for player. */
+    public int evaluatePosition(char player) {
+        return dnc.evaluatePositionDnC(player);
+    }
+
+    public void printAlgorithmInfo() {
+        System.out.println("\n========================================");
+        System.out.println("EASY: D&C + Greedy");
+        System.out.println("MODERATE: DP (Minimax + Memo depth 4)");
+        System.out.println("HARD: Backtracking (Iterative Deepening + PVS depth 6)");
+        System.out.println("========================================\n");
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * ConnectKBenchmark.java
+ * Headless benchmark for Connect-K mode.
+ * Measures per-node cost (make move + win check + evaluation + undo) on sparse
+ * positions as the grid grows, for the sparse ConnectKEvaluator versus a
+ * full-board window scan. The sparse cost should stay flat; the full scan grows with R*C.
+ *
+ * Usage: java ConnectKBenchmark [discs] [iterations]
+ */
+
+import java.util.*;
+
+public class ConnectKBenchmark {
+
+    private static final int[][] SIZES = { { 6, 7, 4 }, { 9, 9, 5 }, { 11, 11, 5 }, { 13, 13, 6 }, { 15, 15, 6 } };
+    private static final int POSITIONS = 32;
+
+    // Sum of every measured result, printed so the JIT cannot drop the work being timed
+    private static long checksum;
+
+    public static void main(String[] args) {
+        int discs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        System.out.println("Connect-K per-node cost (" + discs + " discs, " + POSITIONS + " positions)");
+        System.out.println(String.format("%-8s %-3s %8s %14s %14s", "grid", "K", "windows", "sparse ns/node", "full ns/node"));
+
+        for (int[] size : SIZES) {
+            int rows = size[0], cols = size[1], k = size[2];
+            Board board = new Board(rows, cols);
+            ConnectKEvaluator eval = new ConnectKEvaluator(board, k);
+            List<int[]> positions = randomPositions(board, Math.min(discs, rows * cols / 2), new Random(7));
+
+            verifyAgainstFullScan(board, eval, k, positions);
+
+            // Warm-up both paths before measuring
+            runNodes(board, eval, k, positions, iterations / 4, true);
+            runNodes(board, eval, k, positions, iterations / 4, false);
+
+            double sparse = runNodes(board, eval, k, positions, iterations, true);
+            double full = runNodes(board, eval, k, positions, iterations, false);
+
+            System.out.println(String.format("%-8s %-3d %8d %14.1f %14.1f",
+                    rows + "x" + cols, k, eval.getWindowCount(), sparse, full));
+        }
+        System.out.println("checksum " + checksum);
+    }
+
+    /** Random legal move sequences that avoid immediate wins (a sparse mid-game). */
+    private static List<int[]> randomPositions(Board board, int discs, Random rnd) {
+        List<int[]> out = new ArrayList<>();
+        int cols = board.getCols();
+        while (out.size() < POSITIONS) {
+            board.initializeBoard();
+            int[] moves = new int[discs];
+            for (int i = 0; i < discs; i++) {
+                int col;
+                do {
+                    // Cluster play around the centre the way real games do
+                    col = cols / 2 + (int) Math.round(rnd.nextGaussian() * cols / 5.0);
+                } while (!board.isValidMove(col));
+                board.insertDisc(col, i % 2 == 0 ? 'R' : 'Y');
+                moves[i] = col;
+            }
+            out.add(moves);
+        }
+        board.initializeBoard();
+        return out;
+    }
+
+    private static void load(Board board, int[] moves) {
+        board.initializeBoard();
+        for (int i = 0; i < moves.length; i++)
+            board.insertDisc(moves[i], i % 2 == 0 ? 'R' : 'Y');
+    }
+
+    /** Returns average nanoseconds per node. */
+    private static double runNodes(Board board, ConnectKEvaluator eval, int k,
+            List<int[]> positions, int iterations, boolean sparse) {
+        long nodes = 0, sink = 0, elapsed = 0;
+        for (int[] moves : positions) {
+            load(board, moves);
+            char player = moves.length % 2 == 0 ? 'R' : 'Y';
+            long start = System.nanoTime();
+            for (int it = 0; it < iterations; it++) {
+                for (int col = 0; col < board.getCols(); col++) {
+                    if (board.insertDisc(col, player) < 0) continue;
+                    if (sparse) {
+                        sink += eval.checkWin(player) ? 1 : eval.evaluatePositionDnC(player);
+                    } else {
+                        sink += fullScanWin(board, player, k) ? 1 : fullScanEvaluate(board, player, k);
+                    }
+                    board.removeDisc(col);
+                    nodes++;
+                }
+            }
+            elapsed += System.nanoTime() - start;
+        }
+        checksum += sink;
+        return nodes == 0 ? 0 : (double) elapsed / nodes;
+    }
+
+    private static void verifyAgainstFullScan(Board board, ConnectKEvaluator eval, int k, List<int[]> positions) {
+        for (int[] moves : positions) {
+            load(board, moves);
+            for (char p : new char[] { 'R', 'Y' }) {
+                if (eval.evaluatePositionDnC(p) != fullScanEvaluate(board, p, k)
+                        || eval.checkWin(p) != fullScanWin(board, p, k)) {
+                    throw new IllegalStateException("Sparse and full-scan results differ on " + Arrays.toString(moves));
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Full-board reference (what a naive Connect-K port would do every node)
+    // ---------------------------------------------------------------------
+
+    private static final int[][] DIRS = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { -1, 1 } };
+
+    private static boolean fullScanWin(Board board, char player, int k) {
+        return scanWindows(board, player, k, true) != 0;
+    }
+
+    private static int fullScanEvaluate(Board board, char player, int k) {
+        return scanWindows(board, player, k, false);
+    }
+
+    private static int scanWindows(Board board, char player, int k, boolean winOnly) {
+        char opp = (player == 'R') ? 'Y' : 'R';
+        char[][] g = board.getBoard();
+        int rows = board.getRows(), cols = board.getCols();
+        int score = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                for (int[] d : DIRS) {
+                    int er = r + (k - 1) * d[0], ec = c + (k - 1) * d[1];
+                    if (er < 0 || er >= rows || ec < 0 || ec >= cols) continue;
+                    int mine = 0, theirs = 0;
+                    for (int i = 0; i < k; i++) {
+                        char cell = g[r + i * d[0]][c + i * d[1]];
+                        if (cell == player) mine++;
+                        else if (cell == opp) theirs++;
+                    }
+                    if (winOnly) {
+                        if (mine == k) return 1;
+                        continue;
+                    }
+                    if (mine > 0 && theirs > 0) continue;
+                    int n = Math.max(mine, theirs);
+                    if (n == 0) continue;
+                    int missing = k - n;
+                    int value = missing == 0 ? 10000 : missing == 1 ? EvalWeights.LINE_3
+                            : missing == 2 ? EvalWeights.LINE_2 : missing == 3 ? EvalWeights.LINE_1 : 1;
+                    score += mine > 0 ? value : -value;
+                }
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * ConnectKEvaluator.java
+ * Connect-K win detection and evaluation for large sparse boards (K = 5 or 6, up to ~15x15).
+ * Drop-in replacement for DivideAndConquerGreedy: BacktrackingAlgorithms and
+ * DynamicProgrammingAlgorithms keep their search cores and call checkWin /
+ * evaluatePositionDnC through this subclass.
+ * Every K-cell window is precomputed once; both operations only visit occupied cells.
+ */
+
+public class ConnectKEvaluator extends DivideAndConquerGreedy {
+
+    private static final int[][] DIRECTIONS = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { -1, 1 } };
+
+    private final Board board;
+    private final int k;
+    private final int rows;
+    private final int cols;
+
+    // Window tables: window w starts at (windowRow[w], windowCol[w]) and walks direction windowDir[w]
+    private final int[] windowRow;
+    private final int[] windowCol;
+    private final int[] windowDir;
+    // cellWindows[r * cols + c] = every window that contains cell (r, c)
+    private final int[][] cellWindows;
+    // windowScore[n] = value of an unblocked window holding n of one player's discs
+    private final int[] windowScore;
+
+    // Visit stamps so each window is scored once per evaluation
+    private final int[] windowStamp;
+    private int stamp;
+
+    public ConnectKEvaluator(Board board, int k) {
+        super(board);
+        if (k < 2 || (k > board.getRows() && k > board.getCols())) {
+            throw new IllegalArgumentException(
+                "Connect length " + k + " does not fit a " + board.getRows() + "x" + board.getCols() + " board");
+        }
+        this.board = board;
+        this.k = k;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+
+        int count = countWindows();
+        this.windowRow = new int[count];
+        this.windowCol = new int[count];
+        this.windowDir = new int[count];
+        this.cellWindows = new int[rows * cols][];
+        this.windowStamp = new int[count];
+        this.windowScore = buildWindowScores();
+        buildWindowTables();
+    }
+
+    @Override
+    public int getConnectLength() {
+        return k;
+    }
+
+    public int getWindowCount() {
+        return windowRow.length;
+    }
+
+    /** The bitboard move masks only know four-in-a-row. */
+    @Override
+    public boolean hasMoveMasks() {
+        return k == 4 && super.hasMoveMasks();
+    }
+
+    // =====================================================================
+    // WINDOW TABLES (precomputed once per board size)
+    // Time: O(R*C*K) at construction, never repeated during search
+    // =====================================================================
+
+    private boolean windowFits(int r, int c, int[] d) {
+        int er = r + (k - 1) * d[0], ec = c + (k - 1) * d[1];
+        return er >= 0 && er < rows && ec >= 0 && ec < cols;
+    }
+
+    private int countWindows() {
+        int count = 0;
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                for (int[] d : DIRECTIONS)
+                    if (windowFits(r, c, d)) count++;
+        return count;
+    }
+
+    private void buildWindowTables() {
+        int[] perCell = new int[rows * cols];
+        int w = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    if (!windowFits(r, c, DIRECTIONS[d])) continue;
+                    windowRow[w] = r;
+                    windowCol[w] = c;
+                    windowDir[w] = d;
+                    for (int i = 0; i < k; i++)
+                        perCell[(r + i * DIRECTIONS[d][0]) * cols + c + i * DIRECTIONS[d][1]]++;
+                    w++;
+                }
+            }
+        }
+        for (int cell = 0; cell < perCell.length; cell++) {
+            cellWindows[cell] = new int[perCell[cell]];
+            perCell[cell] = 0;
+        }
+        for (w = 0; w < windowRow.length; w++) {
+            int[] d = DIRECTIONS[windowDir[w]];
+            for (int i = 0; i < k; i++) {
+                int cell = (windowRow[w] + i * d[0]) * cols + windowCol[w] + i * d[1];
+                cellWindows[cell][perCell[cell]++] = w;
+            }
+        }
+    }
+
+    /**
+     * Same ladder as DivideAndConquer.evaluateLine, from EvalWeights: K-1 discs -> LINE_3,
+     * K-2 -> LINE_2, K-3 -> LINE_1, fewer -> 1.
+     */
+    private int[] buildWindowScores() {
+        int[] scores = new int[k + 1];
+        for (int n = 1; n < k; n++) {
+            int missing = k - n;
+            scores[n] = missing == 1 ? EvalWeights.LINE_3 : missing == 2 ? EvalWeights.LINE_2
+                    : missing == 3 ? EvalWeights.LINE_1 : 1;
+        }
+        scores[k] = 10000;
+        return scores;
+    }
+
+    // =====================================================================
+    // SPARSE WIN DETECTION
+    // Only occupied cells of the player are visited; a run is counted from its first cell.
+    // Time: O(P * K) for P discs (independent of grid area)
+    // =====================================================================
+
+    @Override
+    public boolean checkWin(char player) {
+        char[][] g = board.getBoard();
+        for (int c = 0; c < cols; c++) {
+            int top = rows - board.getColumnCount(c);
+            for (int r = rows - 1; r >= top; r--) {
+                if (g[r][c] != player) continue;
+                for (int[] d : DIRECTIONS) {
+                    int pr = r - d[0], pc = c - d[1];
+                    if (pr >= 0 && pr < rows && pc >= 0 && pc < cols && g[pr][pc] == player) continue;
+                    if (runLength(g, player, r, c, d) >= k) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int runLength(char[][] g, char player, int r, int c, int[] d) {
+        int n = 0;
+        while (r >= 0 && r < rows && c >= 0 && c < cols && g[r][c] == player && n < k) {
+            n++;
+            r += d[0];
+            c += d[1];
+        }
+        return n;
+    }
+
+    // =====================================================================
+    // SPARSE WINDOW EVALUATION
+    // Scores each window touching an occupied cell exactly once (stamp array).
+    // Empty windows carry no information and are never visited.
+    // Time: O(P * K^2) for P discs (independent of grid area)
+    // =====================================================================
+
+    @Override
+    public int evaluatePositionDnC(char player) {
+        char opp = (player == 'R') ? 'Y' : 'R';
+        char[][] g = board.getBoard();
+        nextStamp();
+        int score = 0;
+        for (int c = 0; c < cols; c++) {
+            int top = rows - board.getColumnCount(c);
+            for (int r = rows - 1; r >= top; r--) {
+                for (int w : cellWindows[r * cols + c]) {
+                    if (windowStamp[w] == stamp) continue;
+                    windowStamp[w] = stamp;
+                    score += scoreWindow(g, w, player, opp);
+                }
+            }
+        }
+        return score;
+    }
+
+    private int scoreWindow(char[][] g, int w, char player, char opp) {
+        int[] d = DIRECTIONS[windowDir[w]];
+        int r = windowRow[w], c = windowCol[w];
+        int mine = 0, theirs = 0;
+        for (int i = 0; i < k; i++) {
+            char cell = g[r + i * d[0]][c + i * d[1]];
+            if (cell == player) mine++;
+            else if (cell == opp) theirs++;
+        }
+        if (mine > 0 && theirs > 0) return 0;
+        return mine > 0 ? windowScore[mine] : -windowScore[theirs];
+    }
+
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(windowStamp, 0);
+            stamp = 1;
+        }
+    }
+}
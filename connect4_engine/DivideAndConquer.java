@@ -19,6 +19,16 @@ public class DivideAndConquer {
     private Board board;
     // Cache for Memoization (Transposition Table)
     private Map<String, Integer> memoizationTable;
+    // Score of the last move chosen by findBestMoveModerate (0 when forced)
+    private int lastMoveScore;
+    // Counters of the last findBestMove* call
+    private final SearchStats stats = new SearchStats();
+    private long placementsAtStart;
+    private SearchEvent searchEvent;
+    private int rootDepth;
+    private SearchCancellation cancellation = SearchCancellation.NONE;
+    private boolean aborted;
+    private SearchProgress progress = SearchProgress.NONE;
 
     public DivideAndConquer(Board board) {
         this.board = board;
@@ -213,6 +223,11 @@ public class DivideAndConquer {
      * INTEGRATED WITH GREEDY ALGORITHMS
      */
     public int findBestMove(char player) {
+        startStats();
+        return stopStats(searchBestMove(player), true, "Basic");
+    }
+
+    private int searchBestMove(char player) {
         char opponent = (player == 'R') ? 'Y' : 'R';
 
         // 1️⃣ Immediate Winning Move (Highest Priority)
@@ -257,17 +272,31 @@ public class DivideAndConquer {
      * Used for Moderate difficulty - explores game tree without pruning
      */
     public int findBestMoveModerate(char player, int depth) {
+        startStats();
+        return stopStats(searchModerate(player, depth), false, "Moderate");
+    }
+
+    private int searchModerate(char player, int depth) {
+        stats.node(0);
+        rootDepth = depth;
+        aborted = false;
         char opponent = (player == 'R') ? 'Y' : 'R';
 
         // Check for immediate win/block first (Greedy shortcut)
         int winMove = findImmediateWin(player);
-        if (winMove != -1)
+        if (winMove != -1) {
+            lastMoveScore = 10000;
             return winMove;
+        }
         int blockMove = findImmediateWin(opponent);
-        if (blockMove != -1)
+        if (blockMove != -1) {
+            lastMoveScore = 0;
             return blockMove;
+        }
 
         List<Integer> validMoves = findValidMovesDnC(0, board.getCols() - 1);
+        DivideAndConquerGreedy.retainColumns(validMoves,
+                DivideAndConquerGreedy.searchMovesMask(board, player));
         int bestMove = validMoves.isEmpty() ? -1 : validMoves.get(0);
         int maxScore = Integer.MIN_VALUE;
 
@@ -275,21 +304,77 @@ public class DivideAndConquer {
         // Clear cache before new search to free memory from old moves
         memoizationTable.clear();
 
+        progress.iteration(depth);
         for (int col : validMoves) {
             board.insertDisc(col, player);
             // Optimized call with Alpha-Beta bounds & Memoization
             int score = stateSpaceDnC(player, depth - 1, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
             board.removeDisc(col);
+            // Cancelled: keep the best of the root moves searched completely
+            if (aborted) break;
 
             if (score > maxScore) {
                 maxScore = score;
                 bestMove = col;
             }
+            progress.column(col, score, bestMove, stats.nodes);
         }
 
+        lastMoveScore = maxScore == Integer.MIN_VALUE ? 0 : maxScore;
         return bestMove;
     }
 
+    /** Cancellation polled by findBestMoveModerate from now on (SearchCancellation.NONE to clear). */
+    public void setCancellation(SearchCancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /** Whether the last findBestMoveModerate was cut short by its cancellation. */
+    public boolean wasAborted() {
+        return aborted;
+    }
+
+    /**
+     * Where findBestMove* report live progress (SearchProgress.NONE to clear). Moderate
+     * reports each root move's score; the greedy variants only their result.
+     */
+    public void setProgress(SearchProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Minimax score of the last findBestMoveModerate decision
+     */
+    public int getLastMoveScore() {
+        return lastMoveScore;
+    }
+
+    /**
+     * Counters of the last findBestMove* call.
+     * Moderate counts search nodes and memo-table traffic; the greedy
+     * variants report trial placements on the board as nodes.
+     */
+    public SearchStats getLastSearchStats() {
+        return stats.copy();
+    }
+
+    private void startStats() {
+        searchEvent = new SearchEvent();
+        searchEvent.begin();
+        stats.start();
+        placementsAtStart = board.getPlacementCount();
+        progress.begin(board.getCols());
+    }
+
+    private int stopStats(int move, boolean placementsAsNodes, String variant) {
+        if (placementsAsNodes) stats.nodes = board.getPlacementCount() - placementsAtStart;
+        stats.stop();
+        progress.finish(move, stats.nodes);
+        SearchEvent.finish(searchEvent, "DivideAndConquer", variant, stats, move);
+        searchEvent = null;
+        return move;
+    }
+
     // =====================================================================
     // 🧠 GREEDY ALGORITHMS IMPLEMENTATION
     // =====================================================================
@@ -325,8 +410,11 @@ public class DivideAndConquer {
     /**
      * 6️⃣ Column Safety Check
      * Returns false if playing here allows opponent to win immediately
+     * One bitmask lookup when the board has move masks, else a win check per reply
      */
-    private boolean isSafeMove(char player, int col) {
+    boolean isSafeMove(char player, int col) {
+        if (DivideAndConquerGreedy.hasMoveMasks(board))
+            return (board.nonLosingMovesMask(player) & (1 << col)) != 0;
         char opponent = (player == 'R') ? 'Y' : 'R';
         board.insertDisc(col, player);
 
@@ -747,11 +835,19 @@ public class DivideAndConquer {
 
         // 1. Generate unique key for current state
         // (Simple string representation of board + player turn)
+        stats.node(rootDepth - depth);
+        if (aborted || ((stats.nodes & 255) == 0 && cancellation.shouldStop(stats.nodes))) {
+            aborted = true;
+            return 0;
+        }
         String stateKey = generateBoardKey() + ":" + depth + ":" + isMaximizing;
 
         // 2. Check Cache (Memoization)
-        if (memoizationTable.containsKey(stateKey)) {
-            return memoizationTable.get(stateKey);
+        stats.ttProbes++;
+        Integer cached = memoizationTable.get(stateKey);
+        if (cached != null) {
+            stats.ttHits++;
+            return cached;
         }
 
         // Base Case
@@ -763,6 +859,9 @@ public class DivideAndConquer {
             return evaluatePositionDnC(player);
 
         List<Integer> validMoves = findValidMovesDnC(0, board.getCols() - 1);
+        // Skip moves that hand the side to move's opponent an immediate win
+        DivideAndConquerGreedy.retainColumns(validMoves,
+                DivideAndConquerGreedy.searchMovesMask(board, isMaximizing ? player : opponent));
 
         // 🚀 Optimization: Sort moves for better pruning (Center preference)
         validMoves.sort((c1, c2) -> {
@@ -774,32 +873,41 @@ public class DivideAndConquer {
         int bestScore;
         if (isMaximizing) {
             int maxEval = Integer.MIN_VALUE;
-            for (int col : validMoves) {
+            for (int i = 0; i < validMoves.size(); i++) {
+                int col = validMoves.get(i);
                 board.insertDisc(col, player);
                 int eval = stateSpaceDnC(player, depth - 1, alpha, beta, false);
                 board.removeDisc(col);
+                if (aborted) return 0;
                 maxEval = Math.max(maxEval, eval);
                 alpha = Math.max(alpha, eval);
-                if (beta <= alpha)
+                if (beta <= alpha) {
+                    stats.cutoff(i);
                     break; // Pruning
+                }
             }
             bestScore = maxEval;
         } else {
             int minEval = Integer.MAX_VALUE;
-            for (int col : validMoves) {
+            for (int i = 0; i < validMoves.size(); i++) {
+                int col = validMoves.get(i);
                 board.insertDisc(col, opponent);
                 int eval = stateSpaceDnC(player, depth - 1, alpha, beta, true);
                 board.removeDisc(col);
+                if (aborted) return 0;
                 minEval = Math.min(minEval, eval);
                 beta = Math.min(beta, eval);
-                if (beta <= alpha)
+                if (beta <= alpha) {
+                    stats.cutoff(i);
                     break; // Pruning
+                }
             }
             bestScore = minEval;
         }
 
         // 3. Store result in Cache
         memoizationTable.put(stateKey, bestScore);
+        stats.ttStores++;
         return bestScore;
     }
 
@@ -826,6 +934,11 @@ public class DivideAndConquer {
      * Divides potential moves by filtering them through prioritized criteria
      */
     public int findBestMoveRecursiveFilter(char player) {
+        startStats();
+        return stopStats(searchRecursiveFilter(player), true, "RecursiveFilter");
+    }
+
+    private int searchRecursiveFilter(char player) {
         // 1. Start with all valid moves
         List<Integer> candidates = findValidMovesDnC(0, board.getCols() - 1);
         if (candidates.isEmpty())
@@ -943,6 +1056,11 @@ public class DivideAndConquer {
      * Uses Delta Analysis: Evaluates only the *change* in threats caused by a move
      */
     public int findBestMoveThreatLattice(char player) {
+        startStats();
+        return stopStats(searchThreatLattice(player), true, "ThreatLattice");
+    }
+
+    private int searchThreatLattice(char player) {
         char opponent = (player == 'R') ? 'Y' : 'R';
 
         // Check for immediate win/block first
@@ -1050,6 +1168,7 @@ public class DivideAndConquer {
      * - 1000 if 3/4 filled by player (one move to win)
      * - 100 if 2/4 filled
      * - 10 if 1/4 filled
+     * (defaults; the three weights come from EvalWeights)
      * - 0 if blocked by opponent
      */
     private int evaluateLine(char[][] grid, char player, int startRow, int startCol,
@@ -1078,11 +1197,11 @@ public class DivideAndConquer {
             case 4:
                 return 10000; // Already won (shouldn't happen in evaluation)
             case 3:
-                return 1000; // One move to win
+                return EvalWeights.LINE_3; // One move to win
             case 2:
-                return 100; // Two moves to win
+                return EvalWeights.LINE_2; // Two moves to win
             case 1:
-                return 10; // Three moves to win
+                return EvalWeights.LINE_1; // Three moves to win
             default:
                 return 1; // Empty line - still potential
         }
@@ -14,6 +14,11 @@ public class DivideAndConquerGreedy {
         this.board = board;
     }
 
+    /** Discs in a row that win; the search cores size their threat windows from it. */
+    public int getConnectLength() {
+        return 4;
+    }
+
     // =====================================================================
     // METHOD 1: D&C + GREEDY WIN DETECTION - Member 1
     // D&C: Divide into 4 direction subproblems; each direction uses recursive
@@ -146,6 +151,41 @@ public class DivideAndConquerGreedy {
         return findValidMovesDnCGreedy(start, end, centerCol);
     }
 
+    /** Whether Board's move masks hold for these rules: Connect 4 on a board with a bitboard. */
+    public boolean hasMoveMasks() {
+        return hasMoveMasks(board);
+    }
+
+    /** Whether Board's move masks hold for Connect 4 on board. */
+    public static boolean hasMoveMasks(Board board) {
+        return board.hasBitboard();
+    }
+
+    /**
+     * Columns a search node has to try for mover (bit c = column c): its immediate wins
+     * if it has any, else the moves that do not hand the opponent one. -1 (every column)
+     * when nothing can be pruned: every move loses, or hasMoveMasks() is false.
+     * Time: O(C) on the bitboard, against O(C^2 * R*C) for trying every reply.
+     */
+    public int searchMovesMask(char mover) {
+        return hasMoveMasks() ? searchMovesMask(board, mover) : -1;
+    }
+
+    /** searchMovesMask for Connect 4 on board. */
+    public static int searchMovesMask(Board board, char mover) {
+        if (!hasMoveMasks(board)) return -1;
+        int wins = board.winningMovesMask(mover);
+        if (wins != 0) return wins;
+        int safe = board.nonLosingMovesMask(mover);
+        return (safe != 0) ? safe : -1;
+    }
+
+    /** Drop the columns outside mask from moves, keeping the order of the rest. */
+    public static void retainColumns(List<Integer> moves, int mask) {
+        if (mask == -1) return;
+        moves.removeIf(col -> (mask & (1 << col)) == 0);
+    }
+
     /**
      * D&C with greedy: 3-way split prioritizes center.
      * Greedy: Process center segment first; merge center before left/right.
@@ -223,7 +263,26 @@ public class DivideAndConquerGreedy {
         int conn2 = countConnectedDnC(player, 2);
 
         return combineQuadrantScoresGreedy(q1, q2, q3, q4, midR, midC, rows, cols)
-                + (conn3 * 50 + conn2 * 10);
+                + (conn3 * EvalWeights.CONNECTED_3 + conn2 * EvalWeights.CONNECTED_2);
+    }
+
+    /**
+     * The terms evaluatePositionDnC weights, for tuning: {q1, q2, q3, q4, conn3, conn2}.
+     * evaluatePositionDnC(player) == sum of these times the matching EvalWeights.
+     */
+    int[] evaluationFeaturesDnC(char player) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int midR = rows / 2;
+        int midC = cols / 2;
+        return new int[] {
+            evaluateQuadrant(player, 0, midR, 0, midC),
+            evaluateQuadrant(player, 0, midR, midC, cols),
+            evaluateQuadrant(player, midR, rows, 0, midC),
+            evaluateQuadrant(player, midR, rows, midC, cols),
+            countConnectedDnC(player, 3),
+            countConnectedDnC(player, 2)
+        };
     }
 
     private int evaluateQuadrant(char player, int rStart, int rEnd, int cStart, int cEnd) {
@@ -246,7 +305,7 @@ public class DivideAndConquerGreedy {
 
     private int combineQuadrantScoresGreedy(int q1, int q2, int q3, int q4,
             int midR, int midC, int rows, int cols) {
-        int w1 = 1, w2 = 2, w3 = 2, w4 = 3;
+        int w1 = EvalWeights.QUADRANT_1, w2 = EvalWeights.QUADRANT_2, w3 = EvalWeights.QUADRANT_3, w4 = EvalWeights.QUADRANT_4;
         return w1 * q1 + w2 * q2 + w3 * q3 + w4 * q4;
     }
 
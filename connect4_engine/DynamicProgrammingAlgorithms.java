@@ -0,0 +1,741 @@
+/**
+ * DynamicProgrammingAlgorithms.java
+ * Eight methods, each representing one algorithm used in DP-style game search:
+ * memoization, Zobrist hashing, transposition table, alpha-beta, move ordering, etc.
+ * Each method is medium-length (not too long, not too short).
+ */
+
+import java.util.*;
+
+public class DynamicProgrammingAlgorithms {
+
+    private final Board board;
+    private final DivideAndConquerGreedy dnc;
+    // K: discs in a row that win (4, or the Connect-K length); sizes the ordering checks
+    private final int connectLength;
+
+    private final Map<Long, TTEntry> transpositionTable;
+    private final Map<Long, Integer> evaluationCache;
+    private final Map<Long, CacheEntry<Integer>> winMoveCache;
+    private final Map<Long, CacheEntry<List<Integer>>> moveOrderCache;
+    private final long[][] zobristTable;
+    // XORed into TT, evaluation and move-order keys when Yellow is the player searched for:
+    // their values depend on that player, so both sides keep their own entries
+    private final long yellowKey;
+    private final int[] killerMoves;
+    private final int[][] historyHeuristic;
+
+    private static final int EXACT = 0, LOWER = 1, UPPER = 2;
+    private static final int WIN_SCORE = 100000;
+    private static final int MAX_CACHE_SIZE = 50000;
+
+    private final SearchStats stats = new SearchStats();
+    private int rootDepth;
+    private int lastMoveScore;
+    // Bumped by every root search; TT and memo entries from older searches are replaced first
+    private int generation;
+    private SearchCancellation cancellation = SearchCancellation.NONE;
+    private boolean aborted;
+    private SearchProgress progress = SearchProgress.NONE;
+
+    /** Receives every completed iteration of findBestMoveIterative. */
+    public interface IterationListener {
+        void onIteration(int depth, int score, int bestMove, SearchStats stats);
+    }
+
+    public DynamicProgrammingAlgorithms(Board board, DivideAndConquerGreedy dnc) {
+        this.board = board;
+        this.dnc = dnc;
+        this.connectLength = dnc.getConnectLength();
+        this.transpositionTable = new HashMap<>();
+        this.evaluationCache = new HashMap<>();
+        this.winMoveCache = new HashMap<>();
+        this.moveOrderCache = new HashMap<>();
+        this.zobristTable = initZobristTable();
+        this.yellowKey = new Random(43).nextLong();
+        this.killerMoves = new int[32];
+        Arrays.fill(killerMoves, -1);
+        this.historyHeuristic = new int[board.getCols()][2];
+    }
+
+    // =====================================================================
+    // METHOD 1: ROOT SEARCH WITH GREEDY WIN/BLOCK
+    // DP algorithm: Early termination - avoid full search when win/block exists.
+    // TIME COMPLEXITY: O(R*C^2) win/block + O(C * minimaxMemo) for root moves
+    // =====================================================================
+
+    public int findBestMoveHard(char player, int depth) {
+        stats.start();
+        progress.begin(board.getCols());
+        int move = searchRoot(player, depth);
+        stats.stop();
+        progress.finish(move, stats.nodes);
+        return move;
+    }
+
+    private int searchRoot(char player, int depth) {
+        newSearch();
+        aborted = false;
+        stats.node(0);
+        char opp = (player == 'R') ? 'Y' : 'R';
+
+        int win = tryImmediateWin(player);
+        if (win != -1) {
+            lastMoveScore = WIN_SCORE;
+            return win;
+        }
+
+        int block = tryImmediateWin(opp);
+        if (block != -1) {
+            lastMoveScore = 0;
+            return block;
+        }
+
+        int cols = board.getCols();
+        int searchDepth = Math.max(1, depth);
+        List<Integer> moves = dnc.findValidMovesDnC(0, cols - 1);
+        if (moves.isEmpty()) {
+            lastMoveScore = 0;
+            return -1;
+        }
+
+        DivideAndConquerGreedy.retainColumns(moves, dnc.searchMovesMask(player));
+        orderMovesByHeuristic(moves, player);
+        int[] result = searchRootMoves(player, moves, searchDepth);
+        lastMoveScore = result[1];
+        return result[0];
+    }
+
+    /**
+     * One fixed-depth pass over the root moves: {best column, score}.
+     * If the search is cancelled part-way the result only covers the moves finished so far.
+     */
+    private int[] searchRootMoves(char player, List<Integer> moves, int searchDepth) {
+        int best = moves.get(0);
+        int maxScore = Integer.MIN_VALUE;
+        int center = board.getCols() / 2;
+        rootDepth = searchDepth;
+        progress.iteration(searchDepth);
+
+        for (int col : moves) {
+            board.insertDisc(col, player);
+            int score = minimaxMemo(player, searchDepth - 1, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
+            board.removeDisc(col);
+            if (aborted) break;
+            if (score > maxScore) {
+                maxScore = score;
+                best = col;
+            } else if (score == maxScore) {
+                int bestDist = Math.abs(best - center);
+                int colDist = Math.abs(col - center);
+                if (colDist < bestDist) best = col;
+            }
+            progress.column(col, score, best, stats.nodes);
+        }
+        return new int[] { best, maxScore == Integer.MIN_VALUE ? 0 : maxScore };
+    }
+
+    /**
+     * Iterative deepening for analysis: depth 1, 2, ... maxDepth, reporting each finished
+     * iteration to listener. Caches are kept across calls (see newSearch), so following a
+     * game reuses earlier work.
+     * Stops early on a decided score or when the cancellation fires; the move of the last
+     * finished iteration is returned.
+     */
+    public int findBestMoveIterative(char player, int maxDepth, IterationListener listener) {
+        stats.start();
+        progress.begin(board.getCols());
+        aborted = false;
+        newSearch();
+        stats.node(0);
+        char opp = (player == 'R') ? 'Y' : 'R';
+
+        int forced = tryImmediateWin(player);
+        int forcedScore = WIN_SCORE;
+        if (forced == -1) {
+            forced = tryImmediateWin(opp);
+            forcedScore = 0;
+        }
+        if (forced != -1) {
+            lastMoveScore = forcedScore;
+            stats.stop();
+            listener.onIteration(1, forcedScore, forced, stats.copy());
+            progress.finish(forced, stats.nodes);
+            return forced;
+        }
+
+        List<Integer> moves = dnc.findValidMovesDnC(0, board.getCols() - 1);
+        if (moves.isEmpty()) {
+            lastMoveScore = 0;
+            stats.stop();
+            progress.finish(-1, stats.nodes);
+            return -1;
+        }
+        DivideAndConquerGreedy.retainColumns(moves, dnc.searchMovesMask(player));
+        orderMovesByHeuristic(moves, player);
+        int best = moves.get(0);
+        long lastIterationNanos = 0;
+        for (int d = 1; d <= maxDepth; d++) {
+            // a deeper iteration takes at least as long as the last one; don't start what can't finish
+            if (cancellation.shouldStop(stats.nodes) || cancellation.remainingNanos() < lastIterationNanos) break;
+            long iterationStart = System.nanoTime();
+            int[] result = searchRootMoves(player, moves, d);
+            if (aborted) break;
+            lastIterationNanos = System.nanoTime() - iterationStart;
+            best = result[0];
+            lastMoveScore = result[1];
+            stats.stop();
+            listener.onIteration(d, result[1], best, stats.copy());
+            if (Math.abs(result[1]) >= WIN_SCORE) break;
+            // best move first for the next iteration
+            moves.remove(Integer.valueOf(best));
+            moves.add(0, best);
+        }
+        stats.stop();
+        progress.finish(best, stats.nodes);
+        return best;
+    }
+
+    /**
+     * Fixed-depth score of every column for player, Integer.MIN_VALUE for full columns.
+     * The same root pass findBestMoveHard makes, without its win/block shortcut, so every
+     * legal column gets a comparable score.
+     */
+    public int[] scoreColumns(char player, int depth) {
+        stats.start();
+        newSearch();
+        aborted = false;
+        stats.node(0);
+        int[] scores = new int[board.getCols()];
+        Arrays.fill(scores, Integer.MIN_VALUE);
+        rootDepth = Math.max(1, depth);
+        for (int col : dnc.findValidMovesDnC(0, board.getCols() - 1)) {
+            board.insertDisc(col, player);
+            scores[col] = minimaxMemo(player, rootDepth - 1, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
+            board.removeDisc(col);
+        }
+        stats.stop();
+        return scores;
+    }
+
+    /**
+     * Principal variation starting with firstMove for player, read back from the
+     * transposition table (columns, at most maxLength). The board is left unchanged.
+     */
+    public List<Integer> getPrincipalVariation(char player, int firstMove, int maxLength) {
+        List<Integer> pv = new ArrayList<>();
+        char mover = player;
+        int col = firstMove;
+        while (col >= 0 && pv.size() < maxLength && board.isValidMove(col)) {
+            board.insertDisc(col, mover);
+            pv.add(col);
+            if (dnc.checkWin(mover)) break;
+            mover = (mover == 'R') ? 'Y' : 'R';
+            TTEntry e = transpositionTable.get(cacheKey(player));
+            col = (e == null) ? -1 : e.bestMove;
+        }
+        for (int i = pv.size() - 1; i >= 0; i--) board.removeDisc(pv.get(i));
+        return pv;
+    }
+
+    /** Cancellation polled by every search from now on (SearchCancellation.NONE to clear). */
+    public void setCancellation(SearchCancellation cancellation) {
+        this.cancellation = cancellation;
+    }
+
+    /** Where findBestMoveHard/Iterative report each root move's score (SearchProgress.NONE to clear). */
+    public void setProgress(SearchProgress progress) {
+        this.progress = progress;
+    }
+
+    /** Score of the last findBestMoveHard decision (0 when the move was a forced block). */
+    public int getLastMoveScore() {
+        return lastMoveScore;
+    }
+
+    /** Counters of the last findBestMoveHard call. */
+    public SearchStats getLastSearchStats() {
+        return stats.copy();
+    }
+
+    // =====================================================================
+    // METHOD 2: GREEDY EARLY EXIT - TRY IMMEDIATE WIN
+    // DP algorithm: Memoization - cache winning column for board state; reuse when
+    // same position reached from different game tree paths.
+    // TIME COMPLEXITY: O(1) on cache hit; O(C log C) sort + O(R*C^2) worst on miss
+    // =====================================================================
+
+    /**
+     * Stack-style recursion: try center column first, then recurse on left/right halves.
+     * Memoization: cache (hash, player) -> winning column; avoids recomputing same position.
+     */
+    private int tryImmediateWin(char player) {
+        long hash = computeZobristHash();
+        long key = (hash << 1) | (player == 'R' ? 0 : 1);
+        CacheEntry<Integer> cached = winMoveCache.get(key);
+        if (cached != null) {
+            cached.generation = generation;
+            return cached.value;
+        }
+
+        List<Integer> cols = new ArrayList<>();
+        for (int c = 0; c < board.getCols(); c++) cols.add(c);
+        cols.sort((a, b) -> Integer.compare(
+            Math.abs(a - board.getCols() / 2),
+            Math.abs(b - board.getCols() / 2)));
+        int result = tryImmediateWinStack(player, cols, 0);
+        putMemo(winMoveCache, key, result, "winMove");
+        return result;
+    }
+
+    private int tryImmediateWinStack(char player, List<Integer> cols, int idx) {
+        if (idx >= cols.size()) return -1;
+        int col = cols.get(idx);
+        if (col < 0 || col >= board.getCols() || !board.isValidMove(col))
+            return tryImmediateWinStack(player, cols, idx + 1);
+        board.insertDisc(col, player);
+        boolean wins = dnc.checkWin(player);
+        board.removeDisc(col);
+        if (wins) return col;
+        return tryImmediateWinStack(player, cols, idx + 1);
+    }
+
+    // =====================================================================
+    // METHOD 3: ZOBRIST HASHING
+    // DP algorithm: Fast state fingerprint for memoization key.
+    // Walks occupied cells only (column heights), so large sparse boards stay cheap.
+    // TIME COMPLEXITY: O(C + P) for P discs
+    // =====================================================================
+
+    long computeZobristHash() {
+        long hash = 0;
+        char[][] g = board.getBoard();
+        int rows = board.getRows();
+        int cols = board.getCols();
+        for (int c = 0; c < cols; c++) {
+            int top = rows - board.getColumnCount(c);
+            for (int r = rows - 1; r >= top; r--) {
+                char cell = g[r][c];
+                int idx = r * cols + c;
+                int p = (cell == 'R') ? 1 : 2;
+                hash ^= zobristTable[idx][p];
+            }
+        }
+        return hash;
+    }
+
+    /** Zobrist hash of the board combined with the player a search or evaluation is for. */
+    private long cacheKey(char player) {
+        long hash = computeZobristHash();
+        return player == 'Y' ? hash ^ yellowKey : hash;
+    }
+
+    private long[][] initZobristTable() {
+        Random r = new Random(42);
+        long[][] table = new long[board.getRows() * board.getCols()][3];
+        for (int i = 0; i < table.length; i++)
+            for (int j = 0; j < 3; j++)
+                table[i][j] = r.nextLong();
+        return table;
+    }
+
+    // =====================================================================
+    // METHOD 4: EVALUATION MEMOIZATION
+    // DP algorithm: Cache heuristic scores; avoid recomputing same position.
+    // TIME COMPLEXITY: O(1) on cache hit; O(R*C) on cache miss
+    // =====================================================================
+
+    public int evaluateCached(char player) {
+        long hash = cacheKey(player);
+        Integer cached = evaluationCache.get(hash);
+        if (cached != null) {
+            stats.evalHits++;
+            return cached;
+        }
+        stats.evalMisses++;
+        int score = dnc.evaluatePositionDnC(player);
+        if (evaluationCache.size() >= MAX_CACHE_SIZE) {
+            evictEvaluationCache();
+        }
+        evaluationCache.put(hash, score);
+        return score;
+    }
+
+    /**
+     * Full cache reset when full. Distinct from evictOldEntries (depth-based partial eviction).
+     */
+    private void evictEvaluationCache() {
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        event.begin();
+        int before = evaluationCache.size();
+        evaluationCache.clear();
+        stats.evalEvictions += before;
+        if (event.shouldCommit()) {
+            event.cache = "evaluation";
+            event.entriesBefore = before;
+            event.entriesRemoved = before;
+            event.commit();
+        }
+    }
+
+    // =====================================================================
+    // METHOD 5: TRANSPOSITION TABLE LOOKUP
+    // DP algorithm: Retrieve cached minimax result with bound types.
+    // TIME COMPLEXITY: O(1)
+    // =====================================================================
+
+    private Integer lookupTransposition(long hash, int depth, int alpha, int beta) {
+        stats.ttProbes++;
+        TTEntry entry = transpositionTable.get(hash);
+        if (entry == null) return null;
+        if (entry.depth < depth) return null;
+        Integer score = null;
+        if (entry.flag == EXACT) score = entry.score;
+        else if (entry.flag == LOWER && entry.score >= beta) score = entry.score;
+        else if (entry.flag == UPPER && entry.score <= alpha) score = entry.score;
+        if (score != null) stats.ttHits++;
+        return score;
+    }
+
+    // =====================================================================
+    // METHOD 6: TRANSPOSITION TABLE STORAGE + EVICTION
+    // DP algorithm: Store results for overlapping subproblems; evict when full.
+    // Entries carry the generation of the search that wrote them, so the table
+    // survives between moves and stale entries go first.
+    // TIME COMPLEXITY: O(1) for store; O(k) for evictOldEntries
+    // =====================================================================
+
+    private void storeTransposition(long hash, int depth, int score, int flag, int bestMove) {
+        TTEntry old = transpositionTable.get(hash);
+        if (old != null) {
+            // Depth-preferred within one search; anything from an older search is replaced
+            if (old.generation == generation && old.depth > depth) return;
+            old.score = score;
+            old.depth = depth;
+            old.flag = flag;
+            old.bestMove = bestMove;
+            old.generation = generation;
+            stats.ttStores++;
+            return;
+        }
+        if (transpositionTable.size() >= MAX_CACHE_SIZE) {
+            evictOldEntries();
+        }
+        transpositionTable.put(hash, new TTEntry(score, depth, flag, bestMove, generation));
+        stats.ttStores++;
+    }
+
+    private void evictOldEntries() {
+        int size = transpositionTable.size();
+        if (size < MAX_CACHE_SIZE) return;
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        event.begin();
+        int remove = Math.max(1, size / 4);
+        List<Map.Entry<Long, TTEntry>> entries = new ArrayList<>(transpositionTable.entrySet());
+        // Oldest searches first, then shallowest
+        entries.sort((a, b) -> {
+            int ga = a.getValue().generation, gb = b.getValue().generation;
+            if (ga != gb) return Integer.compare(ga, gb);
+            return Integer.compare(a.getValue().depth, b.getValue().depth);
+        });
+        for (int i = 0; i < remove && i < entries.size(); i++) {
+            transpositionTable.remove(entries.get(i).getKey());
+        }
+        stats.ttEvictions += Math.min(remove, entries.size());
+        if (event.shouldCommit()) {
+            event.cache = "transposition";
+            event.entriesBefore = size;
+            event.entriesRemoved = Math.min(remove, entries.size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Store in a memo cache (win moves, move orders); when it is full, first drop the
+     * quarter of entries least recently used by a search, like evictOldEntries.
+     */
+    private <V> void putMemo(Map<Long, CacheEntry<V>> cache, long key, V value, String name) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            evictOldestMemo(cache, name);
+        }
+        cache.put(key, new CacheEntry<>(value, generation));
+    }
+
+    private <V> void evictOldestMemo(Map<Long, CacheEntry<V>> cache, String name) {
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        event.begin();
+        int size = cache.size();
+        int remove = Math.max(1, size / 4);
+        List<Map.Entry<Long, CacheEntry<V>>> entries = new ArrayList<>(cache.entrySet());
+        entries.sort((a, b) -> Integer.compare(a.getValue().generation, b.getValue().generation));
+        for (int i = 0; i < remove; i++) {
+            cache.remove(entries.get(i).getKey());
+        }
+        if (event.shouldCommit()) {
+            event.cache = name;
+            event.entriesBefore = size;
+            event.entriesRemoved = remove;
+            event.commit();
+        }
+    }
+
+    // =====================================================================
+    // METHOD 7: MOVE ORDERING BY HEURISTIC (KILLER + HISTORY + CENTER)
+    // DP algorithm: Memoization - cache move ordering per board state; reuse when
+    // same position reached from different move orders (overlapping subproblems).
+    // TIME COMPLEXITY: O(1) on cache hit; O(C log C) on miss
+    // =====================================================================
+
+    private void orderMovesByHeuristic(List<Integer> moves, char currentPlayer) {
+        long hash = cacheKey(currentPlayer);
+        CacheEntry<List<Integer>> cachedEntry = moveOrderCache.get(hash);
+        if (cachedEntry != null) {
+            cachedEntry.generation = generation;
+            List<Integer> cachedOrder = cachedEntry.value;
+            moves.sort((a, b) -> {
+                int ia = cachedOrder.indexOf(a);
+                int ib = cachedOrder.indexOf(b);
+                if (ia < 0) ia = Integer.MAX_VALUE;
+                if (ib < 0) ib = Integer.MAX_VALUE;
+                return Integer.compare(ia, ib);
+            });
+            return;
+        }
+
+        int cols = board.getCols();
+        int center = cols / 2;
+        char opponent = (currentPlayer == 'R') ? 'Y' : 'R';
+        moves.sort((a, b) -> {
+            int threatA = getThreatScore(a, currentPlayer);
+            int threatB = getThreatScore(b, currentPlayer);
+            if (threatA != threatB) return threatB - threatA;
+            int blockA = getBlockScore(a, currentPlayer, opponent);
+            int blockB = getBlockScore(b, currentPlayer, opponent);
+            if (blockA != blockB) return blockB - blockA;
+            int killerA = getKillerPriority(a);
+            int killerB = getKillerPriority(b);
+            if (killerA != killerB) return killerB - killerA;
+            int histA = getHistoryScore(a);
+            int histB = getHistoryScore(b);
+            if (histA != histB) return histB - histA;
+            return Integer.compare(Math.abs(a - center), Math.abs(b - center));
+        });
+        putMemo(moveOrderCache, hash, new ArrayList<>(moves), "moveOrder");
+    }
+
+    private int getThreatScore(int col, char player) {
+        if (!board.isValidMove(col)) return 0;
+        board.insertDisc(col, player);
+        int score = dnc.checkWin(player) ? 100 : (hasThreat(player) ? 50 : 0);
+        board.removeDisc(col);
+        return score;
+    }
+
+    private int getBlockScore(int col, char currentPlayer, char opponent) {
+        if (!board.isValidMove(col)) return 0;
+        int row = board.insertDisc(col, currentPlayer);
+        if (row < 0) return 0;
+        int score = blocksOpponent(row, col, opponent) ? 80 : 0;
+        board.removeDisc(col);
+        return score;
+    }
+
+    private boolean hasThreat(char player) {
+        char[][] g = board.getBoard();
+        int rows = board.getRows(), cols = board.getCols();
+        int[][] dirs = {{0,1},{1,0},{1,1},{1,-1}};
+        for (int c = 0; c < cols; c++) {
+            int top = rows - board.getColumnCount(c);
+            for (int r = rows - 1; r >= top; r--) {
+                if (g[r][c] != player) continue;
+                for (int[] d : dirs) {
+                    int count = countInDirection(r, c, d[0], d[1], player);
+                    if (count >= connectLength - 1) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Explicit (K-1)-cell check: verify each of K-1 consecutive cells in fwd/bwd direction.
+     * Distinct from Backtracking's window-based scoreBlockAt.
+     */
+    private boolean blocksOpponent(int row, int col, char opponent) {
+        char[][] g = board.getBoard();
+        int rows = board.getRows(), cols = board.getCols();
+        int[][] dirs = {{0,1},{1,0},{1,1},{1,-1}};
+        for (int[] d : dirs) {
+            if (hasConsecutive(g, row + d[0], col + d[1], d[0], d[1], opponent, rows, cols))
+                return true;
+            if (hasConsecutive(g, row - d[0], col - d[1], -d[0], -d[1], opponent, rows, cols))
+                return true;
+        }
+        return false;
+    }
+
+    private boolean hasConsecutive(char[][] g, int r, int c, int dr, int dc, char p, int rows, int cols) {
+        for (int i = 0; i < connectLength - 1; i++) {
+            int nr = r + i * dr, nc = c + i * dc;
+            if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || g[nr][nc] != p) return false;
+        }
+        return true;
+    }
+
+    private int countInDirection(int r, int c, int dr, int dc, char player) {
+        char[][] g = board.getBoard();
+        int rows = board.getRows(), cols = board.getCols();
+        int count = 0;
+        for (int i = 0; i < connectLength; i++) {
+            int nr = r + i * dr, nc = c + i * dc;
+            if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) break;
+            if (g[nr][nc] == player) count++;
+            else break;
+        }
+        return count;
+    }
+
+    private int getKillerPriority(int col) {
+        for (int d = 0; d < killerMoves.length; d++)
+            if (killerMoves[d] == col) return 1000 - d;
+        return 0;
+    }
+
+    private int getHistoryScore(int col) {
+        return (col >= 0 && col < historyHeuristic.length) ? historyHeuristic[col][0] + historyHeuristic[col][1] : 0;
+    }
+
+    // =====================================================================
+    // METHOD 8: MINIMAX WITH ALPHA-BETA + MEMOIZATION
+    // DP algorithm: Overlapping subproblems - same position reached by different
+    // move orders; transposition table stores and reuses results.
+    // TIME COMPLEXITY: O(1) on TT hit; O(b^d) worst without memo; O(unique_states) with TT
+    // =====================================================================
+
+    public int minimaxMemo(char player, int depth, int alpha, int beta, boolean isMax) {
+        char opp = (player == 'R') ? 'Y' : 'R';
+        long hash = cacheKey(player);
+
+        stats.node(rootDepth - depth);
+        if (aborted || ((stats.nodes & 255) == 0 && cancellation.shouldStop(stats.nodes))) {
+            aborted = true;
+            return 0;
+        }
+        Integer cached = lookupTransposition(hash, depth, alpha, beta);
+        if (cached != null) return cached;
+        int alphaOrig = alpha, betaOrig = beta;
+
+        if (dnc.checkWin(player)) return WIN_SCORE + depth;
+        if (dnc.checkWin(opp)) return -WIN_SCORE - depth;
+        if (board.isBoardFull() || depth <= 0) {
+            int eval = evaluateCached(player);
+            storeTransposition(hash, depth, eval, EXACT, -1);
+            return eval;
+        }
+
+        List<Integer> moves = dnc.findValidMovesDnC(0, board.getCols() - 1);
+        char currentPlayer = isMax ? player : opp;
+        DivideAndConquerGreedy.retainColumns(moves, dnc.searchMovesMask(currentPlayer));
+        orderMovesByHeuristic(moves, currentPlayer);
+
+        int score;
+        int bestMove = -1;
+        if (isMax) {
+            int maxEval = Integer.MIN_VALUE;
+            for (int i = 0; i < moves.size(); i++) {
+                int col = moves.get(i);
+                board.insertDisc(col, player);
+                int eval = minimaxMemo(player, depth - 1, alpha, beta, false);
+                board.removeDisc(col);
+                if (aborted) return 0;
+                if (eval > maxEval) bestMove = col;
+                maxEval = Math.max(maxEval, eval);
+                alpha = Math.max(alpha, eval);
+                if (beta <= alpha) {
+                    stats.cutoff(i);
+                    historyHeuristic[col][player == 'R' ? 0 : 1] += depth * depth;
+                    break;
+                }
+            }
+            score = maxEval;
+        } else {
+            int minEval = Integer.MAX_VALUE;
+            for (int i = 0; i < moves.size(); i++) {
+                int col = moves.get(i);
+                board.insertDisc(col, opp);
+                int eval = minimaxMemo(player, depth - 1, alpha, beta, true);
+                board.removeDisc(col);
+                if (aborted) return 0;
+                if (eval < minEval) bestMove = col;
+                minEval = Math.min(minEval, eval);
+                beta = Math.min(beta, eval);
+                if (beta <= alpha) {
+                    stats.cutoff(i);
+                    historyHeuristic[col][opp == 'R' ? 0 : 1] += depth * depth;
+                    break;
+                }
+            }
+            score = minEval;
+        }
+
+        // Bound type against the window this node was called with, not the narrowed one
+        int flag = (score <= alphaOrig) ? UPPER : (score >= betaOrig) ? LOWER : EXACT;
+        storeTransposition(hash, depth, score, flag, bestMove);
+        return score;
+    }
+
+    // ---------------------------------------------------------------------
+    // Cache management (used by methods above)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Start of a root search. Cache keys include the player searched for, so searches for
+     * either side share the caches; the TT moves to a new generation and the history
+     * counters (per mover) are halved, keeping what earlier moves learnt.
+     */
+    private void newSearch() {
+        for (int[] row : historyHeuristic) {
+            row[0] >>= 1;
+            row[1] >>= 1;
+        }
+        generation++;
+    }
+
+    public void clearCache() {
+        CacheClearEvent event = new CacheClearEvent();
+        if (event.isEnabled()) {
+            event.transpositionEntries = transpositionTable.size();
+            event.evaluationEntries = evaluationCache.size();
+            event.winMoveEntries = winMoveCache.size();
+            event.moveOrderEntries = moveOrderCache.size();
+        }
+        event.begin();
+        transpositionTable.clear();
+        evaluationCache.clear();
+        winMoveCache.clear();
+        moveOrderCache.clear();
+        Arrays.fill(killerMoves, -1);
+        for (int[] row : historyHeuristic) Arrays.fill(row, 0);
+        event.commit();
+    }
+
+    private static class CacheEntry<V> {
+        final V value;
+        int generation;
+        CacheEntry(V value, int generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+
+    private static class TTEntry {
+        int score, depth, flag, bestMove, generation;
+        TTEntry(int score, int depth, int flag, int bestMove, int generation) {
+            this.score = score;
+            this.depth = depth;
+            this.flag = flag;
+            this.bestMove = bestMove;
+            this.generation = generation;
+        }
+    }
+}
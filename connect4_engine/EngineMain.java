@@ -0,0 +1,139 @@
+/**
+ * EngineMain.java
+ * Headless entry point of the engine library: best moves for positions, with no
+ * AWT/Swing class ever loaded.
+ * A position is a string of 1-based columns played from the empty 6x7 board, Red first
+ * (e.g. "4453"; "" or "-" is the empty board). Positions come from the arguments, or
+ * one per line from standard input. One line is printed per position, tab-separated:
+ *   moves, best column (1-based), score, nodes, milliseconds
+ * or "moves<TAB>error: ..." for an illegal or finished game.
+ *
+ * Usage: java EngineMain [--engine NAME] [--time MS] [positions...]
+ * Engines: ai-easy, ai-moderate, ai-hard (Connect4AI), dnc, dnc-moderate, dnc-filter,
+ * dnc-lattice (DivideAndConquer); default ai-hard. --time stops a search after MS ms.
+ */
+
+import java.io.*;
+import java.util.*;
+
+public class EngineMain {
+
+    private static final String USAGE = "Usage: java EngineMain [--engine NAME] [--time MS] [positions...]";
+
+    private final String engine;
+    private final long timeLimitMillis;
+    private final Board board = new Board();
+    private final Connect4AI ai = new Connect4AI(board);
+    private final DivideAndConquer dnc = new DivideAndConquer(board);
+
+    EngineMain(String engine, long timeLimitMillis) {
+        this.engine = engine;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String engine = "ai-hard";
+        long timeLimitMillis = 0;
+        List<String> positions = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--engine") && i + 1 < args.length) {
+                engine = args[++i];
+            } else if (args[i].equals("--time") && i + 1 < args.length) {
+                try {
+                    timeLimitMillis = Long.parseLong(args[++i]);
+                } catch (NumberFormatException e) {
+                    System.err.println("Not a number of milliseconds: " + args[i]);
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            } else if (args[i].startsWith("--")) {
+                System.err.println(USAGE);
+                System.exit(2);
+            } else {
+                positions.add(args[i]);
+            }
+        }
+        if (!Arrays.asList("ai-easy", "ai-moderate", "ai-hard", "dnc", "dnc-moderate", "dnc-filter", "dnc-lattice")
+                .contains(engine)) {
+            System.err.println("Unknown engine: " + engine);
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        EngineMain main = new EngineMain(engine, timeLimitMillis);
+        PrintStream out = System.out;
+        if (!positions.isEmpty()) {
+            for (String moves : positions) out.println(main.analyze(moves));
+            return;
+        }
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith("#")) continue;
+            out.println(main.analyze(line));
+            out.flush();
+        }
+    }
+
+    /** One output line for the position reached by moves. */
+    String analyze(String moves) {
+        String played = moves.equals("-") ? "" : moves;
+        String error = setUp(played);
+        if (error != null) return moves + "\terror: " + error;
+        char player = (played.length() % 2 == 0) ? 'R' : 'Y';
+
+        SearchCancellation cancellation = new SearchCancellation(timeLimitMillis, 0);
+        ai.setCancellation(cancellation);
+        dnc.setCancellation(cancellation);
+        int column;
+        int score;
+        SearchStats stats;
+        try {
+            column = search(player);
+            score = engine.startsWith("ai-") ? ai.getLastMoveScore() : dnc.getLastMoveScore();
+            stats = engine.startsWith("ai-") ? ai.getLastSearchStats() : dnc.getLastSearchStats();
+        } finally {
+            ai.setCancellation(SearchCancellation.NONE);
+            dnc.setCancellation(SearchCancellation.NONE);
+        }
+        return String.format("%s\t%d\t%d\t%d\t%.1f", moves, column + 1, score, stats.getNodes(),
+                stats.getElapsedNanos() / 1e6);
+    }
+
+    private int search(char player) {
+        switch (engine) {
+            case "ai-easy":
+                return ai.findBestMove(player);
+            case "ai-moderate":
+                return ai.findBestMoveModerate(player);
+            case "ai-hard":
+                return ai.findBestMoveHard(player);
+            case "dnc":
+                return dnc.findBestMove(player);
+            case "dnc-moderate":
+                return dnc.findBestMoveModerate(player, 3);
+            case "dnc-filter":
+                return dnc.findBestMoveRecursiveFilter(player);
+            default:
+                return dnc.findBestMoveThreatLattice(player);
+        }
+    }
+
+    /** Replay moves on the empty board; an error message, or null if a move is left to find. */
+    private String setUp(String moves) {
+        board.initializeBoard();
+        char player = 'R';
+        for (int i = 0; i < moves.length(); i++) {
+            int col = moves.charAt(i) - '1';
+            if (col < 0 || col >= board.getCols() || !board.isValidMove(col)) {
+                return "illegal move " + moves.charAt(i) + " at ply " + (i + 1);
+            }
+            board.insertDisc(col, player);
+            if (ai.checkWin(player)) return "game already won at ply " + (i + 1);
+            player = (player == 'R') ? 'Y' : 'R';
+        }
+        if (board.isBoardFull()) return "board is full";
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * EvalWeights.java
+ * Evaluation weights of the D&C evaluators, loaded once at startup.
+ * Source: the file named by -Dconnect4.weights=..., else eval-weights.properties in the
+ * working directory if it exists, else the built-in defaults below. Missing keys keep
+ * their defaults, so a weight file may set only some of them. The values are static final,
+ * so the JIT treats them as constants in the evaluation loops.
+ * The tuner in connect4_tools (EvalTuner) writes files in this format; GameBoard in
+ * connect4_greedy reads its own "greedy.*" keys from the same file.
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Properties;
+
+public final class EvalWeights {
+
+    private static final Properties FILE = load();
+
+    // DivideAndConquerGreedy.evaluatePositionDnC: quadrant weights (top-left, top-right,
+    // bottom-left, bottom-right) and bonuses per connected 3 / 2
+    public static final int QUADRANT_1 = get("dnc.quadrant1", 1);
+    public static final int QUADRANT_2 = get("dnc.quadrant2", 2);
+    public static final int QUADRANT_3 = get("dnc.quadrant3", 2);
+    public static final int QUADRANT_4 = get("dnc.quadrant4", 3);
+    public static final int CONNECTED_3 = get("dnc.connected3", 50);
+    public static final int CONNECTED_2 = get("dnc.connected2", 10);
+
+    // DivideAndConquer.evaluateLine: open 4-window holding 1 / 2 / 3 of the player's discs;
+    // ConnectKEvaluator uses the same ladder for K-windows missing 3 / 2 / 1 discs
+    public static final int LINE_1 = get("line.one", 10);
+    public static final int LINE_2 = get("line.two", 100);
+    public static final int LINE_3 = get("line.three", 1000);
+
+    private EvalWeights() {
+    }
+
+    /** Where the weights came from, for logs. */
+    public static String getSource() {
+        return FILE.getProperty("__source", "defaults");
+    }
+
+    private static int get(String key, int defaultValue) {
+        String value = FILE.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static Properties load() {
+        Properties p = new Properties();
+        String name = System.getProperty("connect4.weights");
+        Path path = Paths.get(name != null ? name : "eval-weights.properties");
+        if (name == null && !Files.isRegularFile(path)) return p;
+        try (Reader in = Files.newBufferedReader(path)) {
+            p.load(in);
+            p.setProperty("__source", path.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read evaluation weights from " + path, e);
+        }
+        return p;
+    }
+}
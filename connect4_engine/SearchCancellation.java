@@ -0,0 +1,61 @@
+/**
+ * SearchCancellation.java
+ * Stop signal shared between a running search and whoever controls it.
+ * A search polls shouldStop(nodes) every few hundred nodes; it becomes true when
+ * stop() was called from any thread, the deadline passed or the node budget ran out.
+ * A search that sees it unwinds at once and discards the unfinished iteration.
+ */
+
+public class SearchCancellation {
+
+    /** Never stops; the default for every engine. Shared, so stop() and limitTime() do nothing. */
+    public static final SearchCancellation NONE = new SearchCancellation(0, 0) {
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void limitTime(long timeLimitMillis) {
+        }
+    };
+
+    private volatile boolean stopped;
+    private volatile long deadlineNanos;   // System.nanoTime() value, 0 = no deadline
+    private final long nodeLimit;       // 0 = unlimited
+
+    public SearchCancellation() {
+        this(0, 0);
+    }
+
+    /** timeLimitMillis and nodeLimit of 0 mean unlimited. */
+    public SearchCancellation(long timeLimitMillis, long nodeLimit) {
+        this.deadlineNanos = timeLimitMillis > 0 ? System.nanoTime() + timeLimitMillis * 1_000_000L : 0;
+        this.nodeLimit = nodeLimit;
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    /** Give a search that is already running a deadline timeLimitMillis from now (0 = no change). */
+    public void limitTime(long timeLimitMillis) {
+        if (timeLimitMillis > 0) deadlineNanos = System.nanoTime() + timeLimitMillis * 1_000_000L;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /** Nanoseconds left until the deadline, Long.MAX_VALUE without one. */
+    public long remainingNanos() {
+        long deadline = deadlineNanos;
+        return deadline == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    public boolean shouldStop(long nodes) {
+        if (stopped) return true;
+        if (nodeLimit > 0 && nodes >= nodeLimit) return stopped = true;
+        if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0) return stopped = true;
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * SearchEvent.java
+ * JFR event for one AI move decision (duration = time spent choosing the move).
+ * Recorded when a flight recording with connect4.Search enabled is running;
+ * otherwise begin/commit are no-ops the JIT removes.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("connect4.Search")
+@Label("Connect4 Search")
+@Category("Connect4")
+@Description("One AI move decision")
+public class SearchEvent extends Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Difficulty")
+    String difficulty;
+
+    @Label("Depth")
+    @Description("Deepest ply reached below the root")
+    int depth;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Column")
+    @Description("Chosen column (0-based), -1 if none")
+    int column;
+
+    /** Fill in the fields and commit, if the event is enabled and over its threshold. */
+    static void finish(SearchEvent event, String engine, String difficulty, SearchStats stats, int column) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.engine = engine;
+        event.difficulty = difficulty;
+        event.depth = stats.getMaxDepth();
+        event.nodes = stats.getNodes();
+        event.column = column;
+        event.commit();
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * SearchProgress.java
+ * Live view of a running search for diagnostics (the UI analysis panels).
+ * The search thread reports each finished root move; every report replaces one immutable
+ * Snapshot in an AtomicReference, so a reader that polls now and then (a Swing Timer) sees
+ * only the latest state and the search never waits for it. Reports between two polls are
+ * simply overwritten.
+ * Engines report to SearchProgress.NONE unless given another one; it drops everything.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SearchProgress {
+
+    /** Ignores all reports; the default for every engine. */
+    public static final SearchProgress NONE = new SearchProgress() {
+        @Override
+        public void begin(int cols) {
+        }
+
+        @Override
+        public void iteration(int depth) {
+        }
+
+        @Override
+        public void column(int col, int score, int bestMove, long nodes) {
+        }
+
+        @Override
+        public void finish(int bestMove, long nodes) {
+        }
+    };
+
+    /** Immutable state of one search at one moment. */
+    public static final class Snapshot {
+        /** Depth of the iteration being searched (0 before the first one). */
+        public final int depth;
+        /** Score per column at that depth; Integer.MIN_VALUE = not searched yet or full. */
+        private final int[] scores;
+        /** Best column so far, -1 if none yet. */
+        public final int bestMove;
+        public final long nodes;
+        public final long elapsedNanos;
+        public final boolean finished;
+
+        Snapshot(int depth, int[] scores, int bestMove, long nodes, long elapsedNanos, boolean finished) {
+            this.depth = depth;
+            this.scores = scores;
+            this.bestMove = bestMove;
+            this.nodes = nodes;
+            this.elapsedNanos = elapsedNanos;
+            this.finished = finished;
+        }
+
+        public int getCols() {
+            return scores.length;
+        }
+
+        public int getScore(int col) {
+            return scores[col];
+        }
+
+        public double getNodesPerSecond() {
+            return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+        }
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(0, new int[0], -1, 0, 0, true);
+
+    private final AtomicReference<Snapshot> latest = new AtomicReference<>(EMPTY);
+
+    // Search-thread state; published only as copies
+    private int[] scores = new int[0];
+    private int depth;
+    private int bestMove = -1;
+    private long startNanos;
+
+    /** Search thread: a new search over cols columns starts. */
+    public void begin(int cols) {
+        if (scores.length != cols) scores = new int[cols];
+        Arrays.fill(scores, Integer.MIN_VALUE);
+        depth = 0;
+        bestMove = -1;
+        startNanos = System.nanoTime();
+        publish(0, false);
+    }
+
+    /** Search thread: the iteration at depth starts; the column scores start over. */
+    public void iteration(int depth) {
+        this.depth = depth;
+        Arrays.fill(scores, Integer.MIN_VALUE);
+    }
+
+    /** Search thread: root move col finished with score; bestMove is the best so far. */
+    public void column(int col, int score, int bestMove, long nodes) {
+        scores[col] = score;
+        this.bestMove = bestMove;
+        publish(nodes, false);
+    }
+
+    /** Search thread: the search returned bestMove. */
+    public void finish(int bestMove, long nodes) {
+        this.bestMove = bestMove;
+        publish(nodes, true);
+    }
+
+    /** Any thread: the latest snapshot. */
+    public Snapshot latest() {
+        return latest.get();
+    }
+
+    private void publish(long nodes, boolean finished) {
+        // Release store: the snapshot's fields are visible before the reference is
+        latest.lazySet(new Snapshot(depth, scores.clone(), bestMove, nodes,
+                System.nanoTime() - startNanos, finished));
+    }
+}
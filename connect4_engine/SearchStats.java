@@ -0,0 +1,141 @@
+/**
+ * SearchStats.java
+ * Counters for one findBestMove* call, published by every engine via getLastSearchStats().
+ * - nodes: positions visited by the search (greedy engines: trial placements on the board)
+ * - TT probes / hits / stores / evictions: transposition table traffic (0 if the engine has none)
+ * - eval cache hits / misses / evictions: evaluation memo traffic (DP only, 0 elsewhere)
+ * - beta cutoffs, and how many of them came from the first move tried (move ordering quality)
+ * - max depth: deepest ply below the root that was reached
+ * Engines reuse one mutable instance; getLastSearchStats() hands out a copy.
+ */
+
+public class SearchStats {
+    long nodes;
+    long ttProbes;
+    long ttHits;
+    long ttStores;
+    long ttEvictions;
+    long evalHits;
+    long evalMisses;
+    long evalEvictions;
+    long betaCutoffs;
+    long firstMoveCutoffs;
+    int maxDepth;
+    long elapsedNanos;
+    private long startNanos;
+
+    void start() {
+        nodes = ttProbes = ttHits = ttStores = ttEvictions = betaCutoffs = firstMoveCutoffs = 0;
+        evalHits = evalMisses = evalEvictions = 0;
+        maxDepth = 0;
+        elapsedNanos = 0;
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /** Count one node at ply plies below the root. */
+    void node(int ply) {
+        nodes++;
+        if (ply > maxDepth) maxDepth = ply;
+    }
+
+    /** Count a beta cutoff caused by the move at index moveIndex in the ordered move list. */
+    void cutoff(int moveIndex) {
+        betaCutoffs++;
+        if (moveIndex == 0) firstMoveCutoffs++;
+    }
+
+    public SearchStats copy() {
+        SearchStats s = new SearchStats();
+        s.nodes = nodes;
+        s.ttProbes = ttProbes;
+        s.ttHits = ttHits;
+        s.ttStores = ttStores;
+        s.ttEvictions = ttEvictions;
+        s.evalHits = evalHits;
+        s.evalMisses = evalMisses;
+        s.evalEvictions = evalEvictions;
+        s.betaCutoffs = betaCutoffs;
+        s.firstMoveCutoffs = firstMoveCutoffs;
+        s.maxDepth = maxDepth;
+        s.elapsedNanos = elapsedNanos;
+        return s;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTtProbes() {
+        return ttProbes;
+    }
+
+    public long getTtHits() {
+        return ttHits;
+    }
+
+    public long getTtStores() {
+        return ttStores;
+    }
+
+    public long getTtEvictions() {
+        return ttEvictions;
+    }
+
+    public long getEvalHits() {
+        return evalHits;
+    }
+
+    public long getEvalMisses() {
+        return evalMisses;
+    }
+
+    public long getEvalEvictions() {
+        return evalEvictions;
+    }
+
+    public double getEvalHitRate() {
+        long probes = evalHits + evalMisses;
+        return probes == 0 ? 0 : (double) evalHits / probes;
+    }
+
+    public long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+    /** Share of beta cutoffs produced by the first move searched (1.0 = perfect ordering). */
+    public double getFirstMoveCutoffRate() {
+        return betaCutoffs == 0 ? 0 : (double) firstMoveCutoffs / betaCutoffs;
+    }
+
+    public double getTtHitRate() {
+        return ttProbes == 0 ? 0 : (double) ttHits / ttProbes;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("nodes=%d depth=%d time=%.3fms nps=%.0f tt=%d/%d hits (%d stores, %d evicted)"
+                + " eval=%d/%d hits (%d evicted) cutoffs=%d (first %.0f%%)",
+                nodes, maxDepth, elapsedNanos / 1e6, getNodesPerSecond(), ttHits, ttProbes, ttStores, ttEvictions,
+                evalHits, evalHits + evalMisses, evalEvictions, betaCutoffs, getFirstMoveCutoffRate() * 100);
+    }
+}
@@ -2,6 +2,10 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Connect4 extends JFrame {
     private int rows = 6;
@@ -9,8 +13,10 @@ public class Connect4 extends JFrame {
     private GameBoard board;
     private JButton[] columnButtons;
     private JPanel gamePanel;
+    private RoundedCell[][] cells;
     private JLabel statusLabel;
     private JPanel statusPanel;
+    private JPanel statusIndicator;
     private boolean isPlayerTurn;
     private Greedy1 cpu;
     private JFrame settingsFrame;
@@ -28,6 +34,26 @@ public class Connect4 extends JFrame {
     private JLabel cpuScoreLabel;
     private JPanel cpuScorePanel;
     
+    // The CPU thinks on this thread, on a copy of the board, never on the EDT
+    private final ExecutorService cpuExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "connect4-cpu");
+        t.setDaemon(true);
+        return t;
+    });
+    // Bumped by resetGame; CPU results and progress from an older game are dropped
+    private int gameGeneration;
+    
+    // Drop animation: one timer animates the queued discs one after another. The falling
+    // disc is painted over the cells by gamePanel; only the strip it moves through repaints.
+    private static final int DROP_TICK_MILLIS = 15;
+    private final ArrayDeque<int[]> pendingDrops = new ArrayDeque<>();   // {row, col, player}
+    private final Timer dropTimer = new Timer(DROP_TICK_MILLIS, e -> stepDrop());
+    private int[] currentDrop;
+    private final Rectangle dropBounds = new Rectangle();
+    private int dropTargetY, dropSpeed;
+    // Win/draw announcement, run when the last queued disc has landed
+    private Runnable afterDrops;
+    
     public Connect4() {
         showSettingsDialog();
     }
@@ -175,7 +201,8 @@ public class Connect4 extends JFrame {
         statusLabel = new JLabel("Your Turn");
         statusLabel.setFont(new Font("Arial", Font.PLAIN, 16));
         statusLabel.setForeground(Color.BLACK);
-        statusPanel.add(createStatusIndicator());
+        statusIndicator = createStatusIndicator();
+        statusPanel.add(statusIndicator);
         statusPanel.add(statusLabel);
         
         // Main content panel containing buttons and game board
@@ -202,8 +229,13 @@ public class Connect4 extends JFrame {
         updateColumnButtons();
         mainContentPanel.add(buttonPanel, BorderLayout.NORTH);
         
-        // Game panel - rounded cells
-        gamePanel = new JPanel(new GridLayout(rows, cols, 5, 5));
+        // Game panel - rounded cells, created once; the falling disc is drawn on top of them
+        gamePanel = new JPanel(new GridLayout(rows, cols, 5, 5)) {
+            protected void paintChildren(Graphics g) {
+                super.paintChildren(g);
+                paintFallingDisc(g);
+            }
+        };
         gamePanel.setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
         gamePanel.setBackground(new Color(248, 248, 248));
 
@@ -216,6 +248,13 @@ public class Connect4 extends JFrame {
         gamePanel.setPreferredSize(new Dimension(panelWidth, panelHeight));
         gamePanel.setMinimumSize(new Dimension(panelWidth, panelHeight));
 
+        cells = new RoundedCell[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cells[row][col] = new RoundedCell(0);
+                gamePanel.add(cells[row][col]);
+            }
+        }
         updateDisplay();
 
         JPanel gameContainer = new JPanel(new BorderLayout());
@@ -267,12 +306,8 @@ public class Connect4 extends JFrame {
             }
             columnButtons[i].repaint();
         }
-        if (statusPanel != null) {
-            statusPanel.removeAll();
-            statusPanel.add(createStatusIndicator());
-            statusPanel.add(statusLabel);
-            statusPanel.revalidate();
-            statusPanel.repaint();
+        if (statusIndicator != null) {
+            statusIndicator.repaint();
         }
     }
     
@@ -282,33 +317,15 @@ public class Connect4 extends JFrame {
             return;
         }
         
-        updateDisplay();
-        
-        // Check for win
-        if (board.checkWin(row, col, player)) {
-            if (player == 1) {
-                playerWins++;
-                playerWinsLabel.setText(String.valueOf(playerWins));
-                statusLabel.setText("You win the game");
-            } else {
-                cpuWins++;
-                cpuWinsLabel.setText(String.valueOf(cpuWins));
-                statusLabel.setText("CPU wins!");
-            }
-            disableButtons();
-            showContinueButton();
-            return;
-        }
-        
-        // Check for draw
-        if (board.isBoardFull()) {
-            draws++;
-            drawsLabel.setText(String.valueOf(draws));
-            statusLabel.setText("It's a draw!");
+        boolean won = board.checkWin(row, col, player);
+        if (won || board.isBoardFull()) {
+            // No more input; the result is announced once this disc has landed
             disableButtons();
-            showContinueButton();
+            afterDrops = () -> announceResult(won, player);
+            animateDrop(row, col, player);
             return;
         }
+        animateDrop(row, col, player);
         
         // Switch turns
         if (player == 1) {
@@ -326,68 +343,153 @@ public class Connect4 extends JFrame {
     }
     
     private void cpuMove() {
-        // Score panel is always visible now
+        int generation = gameGeneration;
+        GameBoard snapshot = new GameBoard(board);
+        cpuScoreLabel.setText("Analyzing");
+        
+        // Latest progress text; only one EDT update is queued at a time
+        AtomicReference<String> pendingProgress = new AtomicReference<>();
+        Greedy1.ProgressListener progress = (stage, done, total) -> {
+            String text = total > 1 ? stage + " " + done + "/" + total : stage;
+            if (pendingProgress.getAndSet(text) == null) {
+                SwingUtilities.invokeLater(() -> {
+                    String latest = pendingProgress.getAndSet(null);
+                    if (generation == gameGeneration && latest != null) {
+                        cpuScoreLabel.setText(latest);
+                    }
+                });
+            }
+        };
         
-        Timer thinkingTimer = new Timer(50, new ActionListener() {
-            private int animationCount = 0;
-            
-            public void actionPerformed(ActionEvent e) {
-                animationCount++;
-                cpuScoreLabel.setText("Analyzing" + ".".repeat((animationCount % 4)));
-                cpuScorePanel.revalidate();
-                cpuScorePanel.repaint();
+        cpuExecutor.execute(() -> {
+            int cpuCol = cpu.getBestMove(snapshot, progress);
+            int moveScore = cpu.getLastMoveScore();
+            SwingUtilities.invokeLater(() -> {
+                if (generation != gameGeneration) {
+                    return;
+                }
+                pendingProgress.set(null);
+                cpuScoreLabel.setText("Move Score: " + moveScore);
+                makeMove(cpuCol, 2);
                 
-                if (animationCount >= 1) {
-                    ((Timer)e.getSource()).stop();
-                    
-                    // Get the best move and its score
-                    int cpuCol = cpu.getBestMove(board);
-                    int moveScore = cpu.getLastMoveScore();
-                    
-                    // Display the score
-                    cpuScoreLabel.setText("Move Score: " + moveScore);
-                    cpuScorePanel.revalidate();
-                    cpuScorePanel.repaint();
-                    
-                    // Wait a moment to show the score, then make the move
-                    Timer moveTimer = new Timer(100, new ActionListener() {
-                        public void actionPerformed(ActionEvent evt) {
-                            ((Timer)evt.getSource()).stop();
-                            makeMove(cpuCol, 2);
-
-                            // Reset score display after move
-                            Timer resetTimer = new Timer(600, new ActionListener() {
-                                public void actionPerformed(ActionEvent e2) {
-                                    ((Timer)e2.getSource()).stop();
-                                    cpuScoreLabel.setText("Ready");
-                                }
-                            });
-                            resetTimer.setRepeats(false);
-                            resetTimer.start();
+                // Reset score display after move
+                Timer resetTimer = new Timer(600, new ActionListener() {
+                    public void actionPerformed(ActionEvent e) {
+                        if (generation == gameGeneration && isPlayerTurn) {
+                            cpuScoreLabel.setText("Ready");
                         }
-                    });
-                    moveTimer.setRepeats(false);
-                    moveTimer.start();
-                }
-            }
+                    }
+                });
+                resetTimer.setRepeats(false);
+                resetTimer.start();
+            });
         });
-        thinkingTimer.start();
     }
     
+    private void announceResult(boolean won, int player) {
+        if (won) {
+            if (player == 1) {
+                playerWins++;
+                playerWinsLabel.setText(String.valueOf(playerWins));
+                statusLabel.setText("You win the game");
+            } else {
+                cpuWins++;
+                cpuWinsLabel.setText(String.valueOf(cpuWins));
+                statusLabel.setText("CPU wins!");
+            }
+        } else {
+            draws++;
+            drawsLabel.setText(String.valueOf(draws));
+            statusLabel.setText("It's a draw!");
+        }
+        showContinueButton();
+    }
+    
+    // Show the board in the cells at once (no animation); only cells that change repaint
     private void updateDisplay() {
-        gamePanel.removeAll();
         int[][] gameBoard = board.getBoard();
-        
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
-                RoundedCell cell = new RoundedCell(gameBoard[row][col]);
-                cell.setBackground(new Color(248, 248, 248));
-                gamePanel.add(cell);
+                cells[row][col].setPlayer(gameBoard[row][col]);
             }
         }
-        
-        gamePanel.revalidate();
-        gamePanel.repaint();
+    }
+    
+    // Queue a disc to fall into (row, col); the cell shows it when it lands
+    private void animateDrop(int row, int col, int player) {
+        pendingDrops.add(new int[] { row, col, player });
+        if (currentDrop == null) {
+            startNextDrop();
+        }
+    }
+    
+    private void startNextDrop() {
+        currentDrop = pendingDrops.poll();
+        if (currentDrop == null) {
+            dropTimer.stop();
+            if (afterDrops != null) {
+                Runnable action = afterDrops;
+                afterDrops = null;
+                action.run();
+            }
+            return;
+        }
+        Rectangle target = cells[currentDrop[0]][currentDrop[1]].getBounds();
+        if (target.isEmpty()) {
+            // Not laid out yet: nothing to animate
+            landDrop();
+            return;
+        }
+        int size = Math.min(target.width, target.height) - 10;
+        int top = cells[0][currentDrop[1]].getY() + (target.height - size) / 2;
+        dropBounds.setBounds(target.x + (target.width - size) / 2, top, size, size);
+        dropTargetY = target.y + (target.height - size) / 2;
+        dropSpeed = 4;
+        gamePanel.repaint(dropBounds);
+        dropTimer.start();
+    }
+    
+    private void stepDrop() {
+        if (currentDrop == null) {
+            dropTimer.stop();
+            return;
+        }
+        Rectangle dirty = new Rectangle(dropBounds);
+        dropBounds.y = Math.min(dropTargetY, dropBounds.y + dropSpeed);
+        dropSpeed += 2;
+        gamePanel.repaint(dirty.union(dropBounds));
+        if (dropBounds.y == dropTargetY) {
+            landDrop();
+        }
+    }
+    
+    private void landDrop() {
+        cells[currentDrop[0]][currentDrop[1]].setPlayer(currentDrop[2]);
+        gamePanel.repaint(dropBounds);
+        currentDrop = null;
+        startNextDrop();
+    }
+    
+    // Drop animations still queued or running are abandoned (new game)
+    private void cancelDrops() {
+        pendingDrops.clear();
+        afterDrops = null;
+        dropTimer.stop();
+        if (currentDrop != null) {
+            currentDrop = null;
+            gamePanel.repaint(dropBounds);
+        }
+    }
+    
+    private void paintFallingDisc(Graphics g) {
+        if (currentDrop == null || !g.getClipBounds().intersects(dropBounds)) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(currentDrop[2] == 1 ? Color.RED : Color.YELLOW);
+        g2.fillOval(dropBounds.x, dropBounds.y, dropBounds.width, dropBounds.height);
+        g2.dispose();
     }
     
     private void disableButtons() {
@@ -416,6 +518,11 @@ public class Connect4 extends JFrame {
     }
     
     private void resetGame() {
+        // Drop any CPU move still being computed for the old game
+        gameGeneration++;
+        cancelDrops();
+        cpuScoreLabel.setText("Ready");
+        
         // Reset the board
         board = new GameBoard(rows, cols);
         isPlayerTurn = true;
@@ -509,6 +616,13 @@ public class Connect4 extends JFrame {
             setOpaque(false);
         }
         
+        public void setPlayer(int playerType) {
+            if (player != playerType) {
+                player = playerType;
+                repaint();
+            }
+        }
+        
         protected void paintComponent(Graphics g) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
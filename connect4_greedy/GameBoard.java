@@ -1,85 +1,175 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Properties;
 
 public class GameBoard {
+    // evaluateDirection scores for a run of 2 / 3 / 4+ through the move. Loaded once from
+    // -Dconnect4.weights=... or ./eval-weights.properties (keys greedy.run2/3/4), if present.
+    // This repeats EvalWeights.load on purpose: connect4_greedy builds on its own, without
+    // connect4_engine on its classpath. Keep the file lookup the same as there.
+    static final int RUN_2_SCORE;
+    static final int RUN_3_SCORE;
+    static final int RUN_4_SCORE;
+
+    static {
+        Properties weights = new Properties();
+        String name = System.getProperty("connect4.weights");
+        Path path = Paths.get(name != null ? name : "eval-weights.properties");
+        if (name != null || Files.isRegularFile(path)) {
+            try (Reader in = Files.newBufferedReader(path)) {
+                weights.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read evaluation weights from " + path, e);
+            }
+        }
+        RUN_2_SCORE = Integer.parseInt(weights.getProperty("greedy.run2", "20").trim());
+        RUN_3_SCORE = Integer.parseInt(weights.getProperty("greedy.run3", "100").trim());
+        RUN_4_SCORE = Integer.parseInt(weights.getProperty("greedy.run4", "1000").trim());
+    }
+
     private int rows;
     private int cols;
     private int[][] board;
-    private ArrayList<GameState> stateGraph;  
+    private int[] heights;
+
+    // Move log: the current line of play. Entries at index >= ply are redo history.
+    private int[] moveCols;
+    private int[] movePlayers;
+    private int ply;
+    private int lineLength;
     
     public GameBoard() {
-        this.rows = 6;
-        this.cols = 7;
-        board = new int[rows][cols];
-        stateGraph = new ArrayList<GameState>();
-        
-        int[][] startBoard = copyBoard();
-        GameState startState = new GameState(startBoard, 0, -1);
-        stateGraph.add(startState);
+        this(6, 7);
     }
     
     public GameBoard(int rows, int cols) {
         this.rows = rows;
         this.cols = cols;
         board = new int[rows][cols];
-        stateGraph = new ArrayList<GameState>();
-        
-        int[][] startBoard = copyBoard();
-        GameState startState = new GameState(startBoard, 0, -1);
-        stateGraph.add(startState);
+        heights = new int[cols];
+        moveCols = new int[rows * cols];
+        movePlayers = new int[rows * cols];
     }
     
     
-    public GameBoard(GameBoard other) {
+    public GameBoard(GameBoard other) { // O(rows*cols + moves) - copy cells and move log
         this.rows = other.rows;
         this.cols = other.cols;
         this.board = copyBoard(other.board);
-        this.stateGraph = new ArrayList<GameState>();
-       
-        for (int i = 0; i < other.stateGraph.size(); i++) {
-            stateGraph.add(other.stateGraph.get(i));
-        }
+        this.heights = other.heights.clone();
+        this.moveCols = other.moveCols.clone();
+        this.movePlayers = other.movePlayers.clone();
+        this.ply = other.ply;
+        this.lineLength = other.lineLength;
     }
     
-    public int makeMove(int col, int player) { // O(rows + rows*cols) - find empty row O(rows) + copy board O(rows*cols)
+    public int makeMove(int col, int player) { // O(1) - drop via column height + append to move log
         if (!isValidMove(col)) {
             return -1;
         }
 
+        int row = place(col, player);
+
+        // The log holds rows*cols entries, one per cell, so it never needs to grow
+        moveCols[ply] = col;
+        movePlayers[ply] = player;
+        ply++;
+        // Playing from a past ply branches: the old future is discarded
+        lineLength = ply;
         
-        int row = -1;
-        for (int r = rows - 1; r >= 0; r--) {
-            if (board[r][col] == 0) {
-                row = r;
-                break;
-            }
-        }
-        
-        if (row == -1) {
+        return row;
+    }
+    
+    private int place(int col, int player) { // O(1)
+        int row = rows - 1 - heights[col];
+        board[row][col] = player;
+        heights[col]++;
+        return row;
+    }
+    
+    // ---------------------------------------------------------------------
+    // Replay navigation over the move log
+    // ---------------------------------------------------------------------
+    
+    public int getPly() { // O(1) - number of moves on the board
+        return ply;
+    }
+    
+    public int getLineLength() { // O(1) - moves in the current line, including redo history
+        return lineLength;
+    }
+    
+    public int getMoveColumn(int moveIndex) { // O(1)
+        checkMoveIndex(moveIndex);
+        return moveCols[moveIndex];
+    }
+    
+    public int getMovePlayer(int moveIndex) { // O(1)
+        checkMoveIndex(moveIndex);
+        return movePlayers[moveIndex];
+    }
+    
+    public boolean canStepBack() {
+        return ply > 0;
+    }
+    
+    public boolean canStepForward() {
+        return ply < lineLength;
+    }
+    
+    public int stepBack() { // O(1) - take back the last move, keep it as redo history; returns its column
+        if (ply == 0) {
             return -1;
         }
-        
-        board[row][col] = player;
-        
-       
-        int[][] newBoard = copyBoard();
-        GameState newState = new GameState(newBoard, player, col);
-        stateGraph.add(newState);
-        
-  
-        if (stateGraph.size() > 1) {
-            int prevIndex = stateGraph.size() - 2;
-            GameState prevState = stateGraph.get(prevIndex);
-            prevState.addNextState(newState);
+        ply--;
+        int col = moveCols[ply];
+        heights[col]--;
+        board[rows - 1 - heights[col]][col] = 0;
+        return col;
+    }
+    
+    public int stepForward() { // O(1) - replay the next move of the current line; returns its row
+        if (ply == lineLength) {
+            return -1;
         }
-        
+        int row = place(moveCols[ply], movePlayers[ply]);
+        ply++;
         return row;
     }
     
+    public void jumpToPly(int target) { // O(|target - ply|) - each step is O(1), no copying
+        if (target < 0 || target > lineLength) {
+            throw new IllegalArgumentException("Ply " + target + " outside 0.." + lineLength);
+        }
+        while (ply > target) {
+            stepBack();
+        }
+        while (ply < target) {
+            stepForward();
+        }
+    }
+    
+    public void branchAt(int target) { // O(|target - ply|) - jump, then drop the redo history
+        jumpToPly(target);
+        lineLength = ply;
+    }
+    
+    private void checkMoveIndex(int moveIndex) {
+        if (moveIndex < 0 || moveIndex >= lineLength) {
+            throw new IndexOutOfBoundsException("Move " + moveIndex + " outside 0.." + (lineLength - 1));
+        }
+    }
+    
     public boolean isValidMove(int col) { // O(1) - constant time boundary and array access
         if (col < 0 || col >= cols) {
             return false;
         }
-        return board[0][col] == 0;
+        return heights[col] < rows;
     }
     
     public boolean checkWin(int row, int col, int player) { // O(1) - 4 calls to checkDirection, each O(1)
@@ -127,9 +217,9 @@ public class GameBoard {
         return count;
     }
     
-    public boolean isBoardFull() { // O(cols) - check each column top row
+    public boolean isBoardFull() { // O(cols) - check each column height
         for (int col = 0; col < cols; col++) {
-            if (board[0][col] == 0) {
+            if (heights[col] < rows) {
                 return false;
             }
         }
@@ -154,7 +244,22 @@ public class GameBoard {
         return copy;
     }
     
-    public ArrayList<GameState> getStateGraph() {
+    public ArrayList<GameState> getStateGraph() { // O(ply * rows*cols) - snapshots are rebuilt from the move log on demand
+        ArrayList<GameState> stateGraph = new ArrayList<GameState>();
+        int[][] replay = new int[rows][cols];
+        int[] replayHeights = new int[cols];
+        GameState prevState = new GameState(copyBoard(replay), 0, -1);
+        stateGraph.add(prevState);
+        
+        for (int i = 0; i < ply; i++) {
+            int col = moveCols[i];
+            replay[rows - 1 - replayHeights[col]][col] = movePlayers[i];
+            replayHeights[col]++;
+            GameState newState = new GameState(copyBoard(replay), movePlayers[i], col);
+            prevState.addNextState(newState);
+            stateGraph.add(newState);
+            prevState = newState;
+        }
         return stateGraph;
     }
     
@@ -202,11 +307,11 @@ public class GameBoard {
 
     
         if (count >= 4) {
-            score = score + 1000;
+            score = score + RUN_4_SCORE;
         } else if (count == 3) {
-            score = score + 100;
+            score = score + RUN_3_SCORE;
         } else if (count == 2) {
-            score = score + 20;
+            score = score + RUN_2_SCORE;
         }
 
         return score;
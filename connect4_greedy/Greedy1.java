@@ -1,7 +1,15 @@
 public class Greedy1 {
     
+    // Reports which priority getBestMove is on and how many columns of it are done
+    public interface ProgressListener {
+        void onProgress(String stage, int done, int total);
+    }
+    
+    private static final ProgressListener NO_PROGRESS = (stage, done, total) -> { };
+    
     private Greedy2 greedy2;
     private int lastMoveScore = 0;
+    private long lastNodeCount = 0;
     
     public Greedy1() {
         greedy2 = new Greedy2();
@@ -11,18 +19,30 @@ public class Greedy1 {
         return lastMoveScore;
     }
     
-    public int getBestMove(GameBoard board) { // O(cols * (rows*cols + 1)) worst case - priority 5 dominates
+    // Trial boards built by the last getBestMove call
+    public long getLastNodeCount() {
+        return lastNodeCount;
+    }
+    
+    public int getBestMove(GameBoard board) {
+        return getBestMove(board, NO_PROGRESS);
+    }
+    
+    public int getBestMove(GameBoard board, ProgressListener progress) { // O(cols * (rows*cols + 1)) worst case - priority 5 dominates
+        lastNodeCount = 0;
         int cols = board.getCols();
         int bestCol = -1;
         int bestScore = -999999;
 
         // Priority 1: Check if CPU can win immediately - O(cols * (rows*cols + 1))
         for (int col = 0; col < cols; col++) {
+            progress.onProgress("Looking for a win", col, cols);
             if (!board.isValidMove(col)) {
                 continue;
             }
             GameBoard testBoard = new GameBoard(board); // O(rows*cols)
-            int row = testBoard.makeMove(col, 2); // O(rows + rows*cols)
+            int row = testBoard.makeMove(col, 2); // O(1)
+            lastNodeCount++;
             if (row != -1 && testBoard.checkWin(row, col, 2)) { // O(1)
                 lastMoveScore = 10000;
                 return col;
@@ -31,6 +51,7 @@ public class Greedy1 {
         
         
         // Priority 2: Block player threats (3 in a row that could become 4) - O(rows*cols)
+        progress.onProgress("Checking threats", 0, 1);
         int threatCol = greedy2.findPlayerThreat(board); // O(rows*cols)
         if (threatCol != -1) {
             lastMoveScore = 2500;
@@ -46,12 +67,14 @@ public class Greedy1 {
         
         // Priority 4: Evaluate offensive moves - O(cols * (rows*cols + 1))
         for (int col = 0; col < cols; col++) {
+            progress.onProgress("Evaluating moves", col, cols);
             if (!board.isValidMove(col)) {
                 continue;
             }
 
             GameBoard testBoard = new GameBoard(board); // O(rows*cols)
-            int row = testBoard.makeMove(col, 2); // O(rows + rows*cols)
+            int row = testBoard.makeMove(col, 2); // O(1)
+            lastNodeCount++;
 
             if (row == -1) {
                 continue;
@@ -194,7 +217,7 @@ public class Greedy1 {
     private boolean checkBlockPlayer(GameBoard board, int col) { // O(rows*cols + 1) - copy board + check win
         
         GameBoard testBoard = new GameBoard(board); // O(rows*cols)
-        int row = testBoard.makeMove(col, 1); // O(rows + rows*cols)
+        int row = testBoard.makeMove(col, 1); // O(1)
 
         if (row != -1 && testBoard.checkWin(row, col, 1)) { // O(1)
             return true;
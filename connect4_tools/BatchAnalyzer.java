@@ -0,0 +1,163 @@
+/**
+ * BatchAnalyzer.java
+ * Analyzes a file of positions in parallel and streams one result line per position.
+ * - Input: one 1-based move string per line (anything after the first word is ignored,
+ *   so SuiteRunner files work too); blank lines and # comments are skipped
+ * - Output (tab-separated, in completion order, not input order):
+ *     <input line number> <moves> <best column> <score per column, "-" for full>
+ *   Sort on the first field to restore the input order.
+ * - Work runs on a fixed pool with one engine per thread. At most maxInFlight positions are
+ *   queued or running at once, so memory use does not grow with the input size.
+ *
+ * Usage: java BatchAnalyzer <engine> <in> <out> [--threads N] [--in-flight N]
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BatchAnalyzer {
+
+    /** Analysis of one position. */
+    public static class Result {
+        public final long line;
+        public final String moves;
+        public final int best;        // 0-based, -1 if the game is over
+        public final int[] scores;    // Integer.MIN_VALUE for full columns
+
+        Result(long line, String moves, int best, int[] scores) {
+            this.line = line;
+            this.moves = moves;
+            this.best = best;
+            this.scores = scores;
+        }
+
+        /** The output line, without the trailing newline. */
+        public String format() {
+            StringBuilder sb = new StringBuilder(64);
+            sb.append(line).append('\t').append(moves).append('\t').append(best < 0 ? "-" : String.valueOf(best + 1)).append('\t');
+            for (int c = 0; c < scores.length; c++) {
+                if (c > 0) sb.append(',');
+                sb.append(scores[c] == Integer.MIN_VALUE ? "-" : String.valueOf(scores[c]));
+            }
+            return sb.toString();
+        }
+    }
+
+    private final String engineName;
+    private final int threads;
+    private final int maxInFlight;
+
+    public BatchAnalyzer(String engineName, int threads, int maxInFlight) {
+        Engines.create(engineName);   // fail fast on an unknown name
+        this.engineName = engineName;
+        this.threads = threads;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: java BatchAnalyzer <engine> <in> <out> [--threads N] [--in-flight N]");
+            System.err.println("Engines: " + Engines.names());
+            System.exit(2);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        int inFlight = 0;
+        for (int i = 3; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--in-flight": inFlight = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        BatchAnalyzer analyzer = new BatchAnalyzer(args[0], threads, inFlight > 0 ? inFlight : threads * 64);
+        long start = System.nanoTime();
+        long n;
+        try (BufferedReader in = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8);
+             Writer out = Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)) {
+            n = analyzer.run(in, out);
+        }
+        double secs = (System.nanoTime() - start) / 1e9;
+        System.err.println(String.format("%d positions in %.1f s (%.1f/s) with %s on %d threads",
+                n, secs, n / secs, args[0], threads));
+    }
+
+    /**
+     * Analyze every position read from in, writing result lines to out as they finish.
+     * Returns the number of positions analyzed. The first failing position aborts the run.
+     */
+    public long run(BufferedReader in, Writer out) throws IOException, InterruptedException {
+        ThreadLocal<Engine> engines = ThreadLocal.withInitial(() -> Engines.create(engineName));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Semaphore slots = new Semaphore(maxInFlight);
+        AtomicLong done = new AtomicLong();
+        // First failure from a worker, rethrown here
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        long submitted = 0;
+        try {
+            String raw;
+            long lineNo = 0;
+            while ((raw = in.readLine()) != null && failure.get() == null) {
+                lineNo++;
+                String line = raw.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                int space = line.indexOf(' ');
+                String moves = space < 0 ? line : line.substring(0, space);
+                long index = lineNo;
+                slots.acquire();
+                submitted++;
+                pool.execute(() -> {
+                    try {
+                        String result = analyze(engines.get(), index, moves).format();
+                        synchronized (out) {
+                            out.write(result);
+                            out.write('\n');
+                        }
+                        long d = done.incrementAndGet();
+                        if (d % 10_000 == 0) System.err.println(d + " positions");
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, new IOException("line " + index + " (" + moves + "): " + e, e));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+            // All slots back = every submitted task has finished
+            slots.acquire(maxInFlight);
+            slots.release(maxInFlight);
+        } finally {
+            pool.shutdown();
+        }
+        Exception e = failure.get();
+        if (e != null) throw (IOException) e;
+        return submitted;
+    }
+
+    /** Score vector and best move for one position with the given engine. */
+    public static Result analyze(Engine engine, long line, String moves) {
+        Position position = Position.fromMoves(moves);
+        if (position.lastMoveWon() || position.isFull()) {
+            int[] none = new int[position.getCols()];
+            Arrays.fill(none, Integer.MIN_VALUE);
+            return new Result(line, moves, -1, none);
+        }
+        int[] scores = engine.scoreColumns(position);
+        return new Result(line, moves, bestColumn(scores), scores);
+    }
+
+    /** Highest score; ties go to the column nearest the centre. */
+    static int bestColumn(int[] scores) {
+        int center = scores.length / 2;
+        int best = -1;
+        for (int c = 0; c < scores.length; c++) {
+            if (scores[c] == Integer.MIN_VALUE) continue;
+            if (best < 0 || scores[c] > scores[best]
+                    || (scores[c] == scores[best] && Math.abs(c - center) < Math.abs(best - center))) best = c;
+        }
+        return best;
+    }
+}
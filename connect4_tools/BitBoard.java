@@ -0,0 +1,188 @@
+/**
+ * BitBoard.java
+ * Two-long Connect 4 board: each column takes rows + 1 bits (one sentinel bit on top),
+ * bit 0 is the bottom-left cell. Requires (rows + 1) * cols <= 64, i.e. up to 7x8 / 6x9.
+ * - mask: every occupied cell
+ * - current: discs of the side to move
+ * Play, undo and the win test are a handful of shifts and ands.
+ * The move-mask methods (possible, nonLosingMoves, moveScore) let a solver
+ * generate and order moves without trying them on the board.
+ */
+
+public class BitBoard {
+    private final int rows;
+    private final int cols;
+    private final int height;       // rows + 1
+    private final long bottomRow;    // lowest cell of every column
+    private final long boardMask;    // every playable cell (no sentinels)
+    private long current;
+    private long mask;
+    private int moves;
+
+    public BitBoard() {
+        this(6, 7);
+    }
+
+    public BitBoard(int rows, int cols) {
+        if ((rows + 1) * cols > 64) {
+            throw new IllegalArgumentException("BitBoard supports at most 64 bits, got " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.height = rows + 1;
+        long bottom = 0;
+        for (int c = 0; c < cols; c++) bottom |= 1L << (c * height);
+        this.bottomRow = bottom;
+        this.boardMask = bottom * ((1L << rows) - 1);
+    }
+
+    public BitBoard(BitBoard other) {
+        this(other.rows, other.cols);
+        current = other.current;
+        mask = other.mask;
+        moves = other.moves;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getMoves() {
+        return moves;
+    }
+
+    public boolean canPlay(int col) {
+        return (mask & topMask(col)) == 0;
+    }
+
+    public void play(int col) {
+        current ^= mask;
+        mask |= mask + bottomMask(col);
+        moves++;
+    }
+
+    /** Undo the last move, which must have been played in col. */
+    public void undo(int col) {
+        mask ^= Long.highestOneBit(mask & columnMask(col));
+        current ^= mask;
+        moves--;
+    }
+
+    /** Play a single-bit move from possible(). */
+    public void play(long move) {
+        current ^= mask;
+        mask |= move;
+        moves++;
+    }
+
+    /** Undo play(move). */
+    public void undo(long move) {
+        mask ^= move;
+        current ^= mask;
+        moves--;
+    }
+
+    /** Unique position key (fits in (rows + 1) * cols bits). */
+    public long key() {
+        return current + mask;
+    }
+
+    /** Lowest empty cell of every non-full column. */
+    public long possible() {
+        return (mask + bottomRow) & boardMask;
+    }
+
+    public long columnBits(int col) {
+        return columnMask(col);
+    }
+
+    /** Can the side to move play col and connect four? */
+    public boolean isWinningMove(int col) {
+        return (winningPositions(current) & possible() & columnMask(col)) != 0;
+    }
+
+    public boolean canWinNext() {
+        return (winningPositions(current) & possible()) != 0;
+    }
+
+    /**
+     * Playable moves that do not lose on the spot: a forced block if the opponent has
+     * exactly one immediate win, none if they have two, and never a move directly under
+     * an opponent winning cell. Assumes the side to move cannot win immediately.
+     */
+    public long nonLosingMoves() {
+        long moves = possible();
+        long threats = winningPositions(current ^ mask);
+        long forced = moves & threats;
+        if (forced != 0) {
+            if ((forced & (forced - 1)) != 0) return 0;
+            moves = forced;
+        }
+        return moves & ~(threats >>> 1);
+    }
+
+    /** Number of winning cells the side to move would own after playing move (ordering heuristic). */
+    public int moveScore(long move) {
+        return Long.bitCount(winningPositions(current | move));
+    }
+
+    /** Empty cells that would complete four for the stones in position. */
+    private long winningPositions(long position) {
+        // vertical
+        long r = (position << 1) & (position << 2) & (position << 3);
+        r |= lineThreats(position, height);
+        r |= lineThreats(position, height - 1);
+        r |= lineThreats(position, height + 1);
+        return r & (boardMask ^ mask);
+    }
+
+    private static long lineThreats(long position, int shift) {
+        long p = (position << shift) & (position << (2 * shift));
+        long r = p & (position << (3 * shift));
+        r |= p & (position >>> shift);
+        p = (position >>> shift) & (position >>> (2 * shift));
+        r |= p & (position << shift);
+        r |= p & (position >>> (3 * shift));
+        return r;
+    }
+
+    /** Did the player who just moved connect four? */
+    public boolean lastMoveWon() {
+        return alignment(current ^ mask);
+    }
+
+    public boolean isFull() {
+        return moves == rows * cols;
+    }
+
+    private boolean alignment(long pos) {
+        // horizontal
+        long m = pos & (pos >>> height);
+        if ((m & (m >>> (2 * height))) != 0) return true;
+        // diagonal /
+        m = pos & (pos >>> (height + 1));
+        if ((m & (m >>> (2 * (height + 1)))) != 0) return true;
+        // diagonal \
+        m = pos & (pos >>> (height - 1));
+        if ((m & (m >>> (2 * (height - 1)))) != 0) return true;
+        // vertical
+        m = pos & (pos >>> 1);
+        return (m & (m >>> 2)) != 0;
+    }
+
+    private long topMask(int col) {
+        return 1L << (rows - 1 + col * height);
+    }
+
+    private long bottomMask(int col) {
+        return 1L << (col * height);
+    }
+
+    private long columnMask(int col) {
+        return ((1L << rows) - 1) << (col * height);
+    }
+}
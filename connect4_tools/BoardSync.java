@@ -0,0 +1,51 @@
+/**
+ * BoardSync.java
+ * Keeps a DnC-module Board in step with a Position without copying it:
+ * undoes moves back to the longest common prefix, then plays the rest.
+ * Consecutive searches in one game cost O(1) board updates per call.
+ */
+
+public class BoardSync {
+    private final Board board;
+    private final int[] applied;
+    private int count;
+
+    public BoardSync(Board board) {
+        this.board = board;
+        this.applied = new int[board.getRows() * board.getCols()];
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public boolean fits(Position position) {
+        return position.getRows() == board.getRows() && position.getCols() == board.getCols();
+    }
+
+    public void sync(Position position) {
+        int common = 0;
+        int target = position.getPly();
+        while (common < count && common < target && applied[common] == position.getMove(common)) {
+            common++;
+        }
+        while (count > common) {
+            board.removeDisc(applied[--count]);
+        }
+        while (count < target) {
+            int col = position.getMove(count);
+            board.insertDisc(col, toDisc(Position.moverAt(count)));
+            applied[count++] = col;
+        }
+    }
+
+    public void reset() {
+        board.initializeBoard();
+        count = 0;
+    }
+
+    /** Player 1/2 to the DnC disc character. */
+    public static char toDisc(int player) {
+        return (player == 1) ? 'R' : 'Y';
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Connect4AIEngine.java
+ * Engine adapter for Connect4AI (Easy: D&C + Greedy, Moderate: DP, Hard: Backtracking).
+ * The adapter owns the Board the AI was built on and syncs it incrementally.
+ */
+
+public class Connect4AIEngine implements Engine {
+
+    public enum Level {
+        EASY("ai-easy"),
+        MODERATE("ai-moderate"),
+        HARD("ai-hard");
+
+        public final String engineName;
+
+        Level(String engineName) {
+            this.engineName = engineName;
+        }
+    }
+
+    private final Level level;
+    private BoardSync sync;
+    private Connect4AI ai;
+
+    public Connect4AIEngine(Level level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return level.engineName;
+    }
+
+    @Override
+    public SearchResult search(Position position) {
+        syncBoard(position);
+        char player = BoardSync.toDisc(position.sideToMove());
+
+        long start = System.nanoTime();
+        int col;
+        switch (level) {
+            case MODERATE:
+                col = ai.findBestMoveModerate(player);
+                break;
+            case HARD:
+                col = ai.findBestMoveHard(player);
+                break;
+            default:
+                col = ai.findBestMove(player);
+                break;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new SearchResult(col, scoreOf(col, player), ai.getLastSearchStats(), elapsed);
+    }
+
+    /** Moderate scores all columns in one DP root pass; the other levels use the default. */
+    @Override
+    public int[] scoreColumns(Position position) {
+        if (level != Level.MODERATE) return Engine.super.scoreColumns(position);
+        syncBoard(position);
+        return ai.scoreColumnsModerate(BoardSync.toDisc(position.sideToMove()));
+    }
+
+    private void syncBoard(Position position) {
+        if (sync == null || !sync.fits(position)) {
+            Board board = new Board(position.getRows(), position.getCols());
+            sync = new BoardSync(board);
+            ai = new Connect4AI(board);
+        }
+        sync.sync(position);
+    }
+
+    /** Moderate/Hard report their search score; Easy gets a static evaluation of the move. */
+    private int scoreOf(int col, char player) {
+        if (level != Level.EASY) return ai.getLastMoveScore();
+        Board board = sync.getBoard();
+        if (board.insertDisc(col, player) < 0) return 0;
+        int score = ai.checkWin(player) ? 100000 : ai.evaluatePosition(player);
+        board.removeDisc(col);
+        return score;
+    }
+
+    /** The underlying Connect4AI (null until the first search). */
+    public Connect4AI getAI() {
+        return ai;
+    }
+
+    @Override
+    public void newGame() {
+        if (sync != null) sync.reset();
+        if (ai != null) ai.clearCache();
+    }
+}
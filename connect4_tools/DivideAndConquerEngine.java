@@ -0,0 +1,82 @@
+/**
+ * DivideAndConquerEngine.java
+ * Engine adapter for the DivideAndConquer difficulty ladder used by connect4_DnC_BT's UI.
+ * The adapter owns the Board the engine was built on and syncs it incrementally.
+ */
+
+public class DivideAndConquerEngine implements Engine {
+
+    public enum Variant {
+        BASIC("dnc"),
+        MODERATE("dnc-moderate"),
+        RECURSIVE_FILTER("dnc-filter"),
+        THREAT_LATTICE("dnc-lattice");
+
+        public final String engineName;
+
+        Variant(String engineName) {
+            this.engineName = engineName;
+        }
+    }
+
+    /** Same depth the UI uses for Moderate. */
+    private static final int MODERATE_DEPTH = 3;
+
+    private final Variant variant;
+    private BoardSync sync;
+    private DivideAndConquer dnc;
+
+    public DivideAndConquerEngine(Variant variant) {
+        this.variant = variant;
+    }
+
+    @Override
+    public String getName() {
+        return variant.engineName;
+    }
+
+    @Override
+    public SearchResult search(Position position) {
+        if (sync == null || !sync.fits(position)) {
+            Board board = new Board(position.getRows(), position.getCols());
+            sync = new BoardSync(board);
+            dnc = new DivideAndConquer(board);
+        }
+        sync.sync(position);
+        char player = BoardSync.toDisc(position.sideToMove());
+
+        long start = System.nanoTime();
+        int col;
+        switch (variant) {
+            case MODERATE:
+                col = dnc.findBestMoveModerate(player, MODERATE_DEPTH);
+                break;
+            case RECURSIVE_FILTER:
+                col = dnc.findBestMoveRecursiveFilter(player);
+                break;
+            case THREAT_LATTICE:
+                col = dnc.findBestMoveThreatLattice(player);
+                break;
+            default:
+                col = dnc.findBestMove(player);
+                break;
+        }
+        long elapsed = System.nanoTime() - start;
+        return new SearchResult(col, scoreOf(col, player), dnc.getLastSearchStats(), elapsed);
+    }
+
+    /** Moderate reports its minimax score; the greedy variants get a static evaluation of the move. */
+    private int scoreOf(int col, char player) {
+        if (variant == Variant.MODERATE) return dnc.getLastMoveScore();
+        Board board = sync.getBoard();
+        if (board.insertDisc(col, player) < 0) return 0;
+        int score = dnc.checkWin(player) ? 100000 : dnc.evaluatePositionDnC(player);
+        board.removeDisc(col);
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        if (sync != null) sync.reset();
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Engine.java
+ * One interface over every Connect4 AI in the repo:
+ * - Greedy1 (connect4_greedy, int[][] board, players 1/2)
+ * - DivideAndConquer variants and Connect4AI difficulties (char[][] Board, 'R'/'Y')
+ * Position in, move + score + stats out. Adapters keep a native board per
+ * engine and apply only the moves that changed since the previous call.
+ * Instances are not thread-safe: use one per thread.
+ */
+
+public interface Engine {
+
+    /** Score of a winning column in the default scoreColumns (the D&C / DP win score). */
+    int WIN_SCORE = 100000;
+
+    /** Short identifier, as accepted by Engines.create. */
+    String getName();
+
+    /** Choose a move for the side to move in position. */
+    SearchResult search(Position position);
+
+    /**
+     * Score of every column for the side to move (higher is better), Integer.MIN_VALUE
+     * where the column is full. Default: one search per child position, negated; a
+     * winning column scores WIN_SCORE and a column that fills the board 0.
+     */
+    default int[] scoreColumns(Position position) {
+        int[] scores = new int[position.getCols()];
+        for (int col = 0; col < scores.length; col++) {
+            if (!position.canPlay(col)) {
+                scores[col] = Integer.MIN_VALUE;
+            } else if (position.isWinningMove(col)) {
+                scores[col] = WIN_SCORE;
+            } else {
+                Position child = position.copy();
+                child.play(col);
+                scores[col] = child.isFull() ? 0 : -search(child).getScore();
+            }
+        }
+        return scores;
+    }
+
+    /** Forget per-game state (native board, caches). */
+    default void newGame() {
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * EngineBenchmarks.java
+ * Throughput and allocation benchmarks for the engine hot paths on a fixed
+ * corpus of positions. Results can be saved as a CSV baseline and later
+ * runs compared against it, so every performance change is measurable.
+ *
+ * Usage: java EngineBenchmarks [name-regex] [--warmup S] [--time S] [--iterations N]
+ *                              [--save baseline.csv] [--compare baseline.csv]
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+public class EngineBenchmarks {
+
+    /**
+     * Fixed corpus: opening, middle-game and late positions (1-based column strings)
+     * taken from engine self-play. None of them is already decided.
+     */
+    static final String[] CORPUS = {
+        "",
+        "4",
+        "4453",
+        "1414434",
+        "3145212234",
+        "4453675546466",
+        "343324144526753",
+        "44434443323233211",
+        "3133233312114521245",
+        "44433523541263322411416",
+        "44434443323233211121226766",
+        "445367554646645333554377",
+    };
+
+    /** Everything one benchmark needs for one corpus position, built once up front. */
+    static final class Fixture {
+        final Board board = new Board();
+        final DivideAndConquerGreedy dncGreedy = new DivideAndConquerGreedy(board);
+        final DivideAndConquer dnc = new DivideAndConquer(board);
+        final BacktrackingAlgorithms backtracking = new BacktrackingAlgorithms(board, dncGreedy);
+        final DynamicProgrammingAlgorithms dp = new DynamicProgrammingAlgorithms(board, dncGreedy);
+        final Connect4AI ai = new Connect4AI(board);
+        final GameBoard gameBoard = new GameBoard();
+        final char toMove;
+
+        Fixture(String moves) {
+            Position p = Position.fromMoves(moves);
+            if (p.lastMoveWon()) throw new IllegalArgumentException("Corpus position already decided: " + moves);
+            for (int i = 0; i < p.getPly(); i++) {
+                board.insertDisc(p.getMove(i), BoardSync.toDisc(Position.moverAt(i)));
+                // Greedy1 always plays as 2, so the side to move is stored as 2
+                gameBoard.makeMove(p.getMove(i), (i % 2 == p.getPly() % 2) ? 2 : 1);
+            }
+            toMove = BoardSync.toDisc(p.sideToMove());
+        }
+    }
+
+    private static final class Bench {
+        final String name;
+        final MicroBenchmark.Op op;
+
+        Bench(String name, MicroBenchmark.Op op) {
+            this.name = name;
+            this.op = op;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Pattern filter = Pattern.compile(".*");
+        double warmup = 1, time = 1;
+        int iterations = 5;
+        String save = null, compare = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup": warmup = Double.parseDouble(args[++i]); break;
+                case "--time": time = Double.parseDouble(args[++i]); break;
+                case "--iterations": iterations = Integer.parseInt(args[++i]); break;
+                case "--save": save = args[++i]; break;
+                case "--compare": compare = args[++i]; break;
+                default: filter = Pattern.compile(args[i]);
+            }
+        }
+
+        Fixture[] fx = new Fixture[CORPUS.length];
+        for (int i = 0; i < CORPUS.length; i++) fx[i] = new Fixture(CORPUS[i]);
+
+        Map<String, double[]> baseline = compare == null ? Collections.emptyMap() : readCsv(Paths.get(compare));
+        MicroBenchmark harness = new MicroBenchmark(warmup, time, iterations);
+        List<MicroBenchmark.Result> results = new ArrayList<>();
+
+        System.out.println(String.format("%-44s %14s %10s %14s %12s %9s",
+                "Benchmark", "ops/s", "error", "ns/op", "B/op", "vs base"));
+        for (Bench b : benchmarks(fx)) {
+            if (!filter.matcher(b.name).find()) continue;
+            MicroBenchmark.Result r = harness.measure(b.name, b.op);
+            results.add(r);
+            double[] base = baseline.get(r.name);
+            String delta = base == null ? "" : String.format("%+8.1f%%", (r.opsPerSecond / base[0] - 1) * 100);
+            System.out.println(String.format("%-44s %14.1f %10.1f %14.1f %12.1f %9s",
+                    r.name, r.opsPerSecond, r.opsPerSecondError, r.nanosPerOp, r.bytesPerOp, delta));
+        }
+
+        if (save != null) writeCsv(Paths.get(save), results);
+    }
+
+    /** Each op works on corpus position i % corpus size; every call leaves the board unchanged. */
+    static List<Bench> benchmarks(Fixture[] fx) {
+        int n = fx.length;
+        List<Bench> list = new ArrayList<>();
+
+        list.add(new Bench("DivideAndConquerGreedy.checkWin", i -> {
+            Fixture f = fx[i % n];
+            return f.dncGreedy.checkWin(f.toMove) ? 1 : 0;
+        }));
+        list.add(new Bench("DivideAndConquer.checkWin", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.checkWin(f.toMove) ? 1 : 0;
+        }));
+        list.add(new Bench("DivideAndConquerGreedy.evaluatePositionDnC", i -> {
+            Fixture f = fx[i % n];
+            return f.dncGreedy.evaluatePositionDnC(f.toMove);
+        }));
+        list.add(new Bench("DivideAndConquer.evaluatePositionDnC", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.evaluatePositionDnC(f.toMove);
+        }));
+        list.add(new Bench("DivideAndConquerGreedy.findValidMovesDnC", i -> {
+            Fixture f = fx[i % n];
+            return f.dncGreedy.findValidMovesDnC(0, f.board.getCols() - 1).size();
+        }));
+        list.add(new Bench("DivideAndConquer.findValidMovesDnC", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.findValidMovesDnC(0, f.board.getCols() - 1).size();
+        }));
+        list.add(new Bench("DynamicProgramming.computeZobristHash", i -> fx[i % n].dp.computeZobristHash()));
+        list.add(new Bench("Backtracking.isSafeMove (all columns)", i -> {
+            Fixture f = fx[i % n];
+            long safe = 0;
+            for (int c = 0; c < f.board.getCols(); c++)
+                if (f.board.isValidMove(c) && f.backtracking.isSafeMove(f.toMove, c)) safe++;
+            return safe;
+        }));
+        list.add(new Bench("DivideAndConquer.isSafeMove (all columns)", i -> {
+            Fixture f = fx[i % n];
+            long safe = 0;
+            for (int c = 0; c < f.board.getCols(); c++)
+                if (f.board.isValidMove(c) && f.dnc.isSafeMove(f.toMove, c)) safe++;
+            return safe;
+        }));
+
+        Greedy1 greedy = new Greedy1();
+        list.add(new Bench("Greedy1.getBestMove", i -> greedy.getBestMove(fx[i % n].gameBoard)));
+
+        list.add(new Bench("DivideAndConquer.findBestMove", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.findBestMove(f.toMove);
+        }));
+        list.add(new Bench("DivideAndConquer.findBestMoveModerate(3)", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.findBestMoveModerate(f.toMove, 3);
+        }));
+        list.add(new Bench("DivideAndConquer.findBestMoveRecursiveFilter", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.findBestMoveRecursiveFilter(f.toMove);
+        }));
+        list.add(new Bench("DivideAndConquer.findBestMoveThreatLattice", i -> {
+            Fixture f = fx[i % n];
+            return f.dnc.findBestMoveThreatLattice(f.toMove);
+        }));
+        list.add(new Bench("Connect4AI.findBestMove", i -> {
+            Fixture f = fx[i % n];
+            return f.ai.findBestMove(f.toMove);
+        }));
+        // The DP caches survive between calls, so a cold run clears them first; the warm run
+        // repeats the position with the caches the previous call on it left behind.
+        list.add(new Bench("Connect4AI.findBestMoveModerate (cold)", i -> {
+            Fixture f = fx[i % n];
+            f.ai.clearCache();
+            return f.ai.findBestMoveModerate(f.toMove);
+        }));
+        list.add(new Bench("Connect4AI.findBestMoveModerate (warm)", i -> {
+            Fixture f = fx[i % n];
+            return f.ai.findBestMoveModerate(f.toMove);
+        }));
+        list.add(new Bench("Connect4AI.findBestMoveHard", i -> {
+            Fixture f = fx[i % n];
+            return f.ai.findBestMoveHard(f.toMove);
+        }));
+        return list;
+    }
+
+    private static Map<String, double[]> readCsv(Path path) throws IOException {
+        Map<String, double[]> out = new HashMap<>();
+        for (String line : Files.readAllLines(path)) {
+            if (line.startsWith("benchmark,")) continue;
+            String[] f = line.split(",");
+            out.put(f[0], new double[] { Double.parseDouble(f[1]), Double.parseDouble(f[3]), Double.parseDouble(f[4]) });
+        }
+        return out;
+    }
+
+    private static void writeCsv(Path path, List<MicroBenchmark.Result> results) throws IOException {
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(path))) {
+            w.println("benchmark,ops_per_s,error,ns_per_op,bytes_per_op");
+            for (MicroBenchmark.Result r : results)
+                w.println(r.name + "," + r.opsPerSecond + "," + r.opsPerSecondError + "," + r.nanosPerOp + "," + r.bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * EnginePool.java
+ * Keeps idle Engine instances per engine name so a new game gets an engine whose
+ * classes are already JIT-compiled. "Warm" means JIT and allocation only: search
+ * caches do not carry over from one game to the next.
+ * - acquire: an idle instance or a fresh one
+ * - release: newGame (drops its board and caches, so idle instances hold no dead
+ *   entries), then back to the pool, up to maxIdle per name; extras are dropped
+ * - warm: create instances up front and run a few searches on each
+ * Thread-safe; each acquired engine is used by one caller at a time.
+ */
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class EnginePool {
+
+    // Short openings searched by warm(); they touch the opening and early middle game
+    private static final String[] WARM_UP = { "", "4", "44", "4453", "444433", "3445" };
+
+    private final ConcurrentHashMap<String, ConcurrentLinkedDeque<Engine>> idle = new ConcurrentHashMap<>();
+    private final int maxIdle;
+
+    public EnginePool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    public Engine acquire(String name) {
+        Engine engine = deque(name).pollFirst();
+        return engine != null ? engine : Engines.create(name);
+    }
+
+    public void release(Engine engine) {
+        ConcurrentLinkedDeque<Engine> d = deque(engine.getName());
+        // size() walks the deque, fine for the small maxIdle this is meant for
+        if (d.size() >= maxIdle) return;
+        engine.newGame();
+        d.addFirst(engine);
+    }
+
+    /** Put count warmed instances of name into the pool. */
+    public void warm(String name, int count) {
+        for (int i = 0; i < count; i++) {
+            Engine engine = Engines.create(name);
+            for (String moves : WARM_UP) {
+                engine.newGame();
+                engine.search(Position.fromMoves(moves));
+            }
+            release(engine);
+        }
+    }
+
+    public int idleCount(String name) {
+        return deque(name).size();
+    }
+
+    private ConcurrentLinkedDeque<Engine> deque(String name) {
+        return idle.computeIfAbsent(name, k -> new ConcurrentLinkedDeque<>());
+    }
+}
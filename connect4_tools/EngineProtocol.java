@@ -0,0 +1,179 @@
+/**
+ * EngineProtocol.java
+ * Line-based engine protocol over stdin/stdout (UCI-style), served by one persistent
+ * DynamicProgrammingAlgorithms instance whose caches survive between commands.
+ *
+ * Commands (columns are 1-based, as in move strings):
+ *   position [startpos] [moves] <moves>   set the position, e.g. "position 4453"
+ *   go [depth N] [movetime MS] [nodes N]  search; no limit = until stop or the board is solved
+ *   stop                                  finish the current search now
+ *   isready                               answers readyok at once, even during a search
+ *   newgame                               drop all caches
+ *   quit
+ * Output:
+ *   info depth D score S nodes N nps X time MS pv C C C ...   after each finished depth
+ *   bestmove C                                                 once per go
+ *   info string <message>                                      errors and notices
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class EngineProtocol {
+
+    /** Taken off every movetime to cover unwinding the search and printing bestmove. */
+    private static final long MOVETIME_OVERHEAD_MS = 20;
+
+    private final PrintStream out;
+    private final Board board = new Board();
+    private final BoardSync sync = new BoardSync(board);
+    private final DynamicProgrammingAlgorithms engine =
+            new DynamicProgrammingAlgorithms(board, new DivideAndConquerGreedy(board));
+    private final ExecutorService searcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "engine-search");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private Position position = new Position();
+    private Future<?> running;
+    private SearchCancellation cancellation;
+
+    public EngineProtocol(PrintStream out) {
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        EngineProtocol protocol = new EngineProtocol(System.out);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (!protocol.handle(line.trim())) break;
+        }
+        protocol.shutdown();
+    }
+
+    /** Handle one command line; false on quit. */
+    public boolean handle(String line) {
+        if (line.isEmpty()) return true;
+        String[] words = line.split("\\s+");
+        try {
+            switch (words[0]) {
+                case "position":
+                    awaitSearch();
+                    position = parsePosition(words);
+                    break;
+                case "go":
+                    go(words);
+                    break;
+                case "stop":
+                    awaitSearch();
+                    break;
+                case "isready":
+                    // Liveness check: never waits for a running search
+                    send("readyok");
+                    break;
+                case "newgame":
+                    awaitSearch();
+                    engine.clearCache();
+                    position = new Position();
+                    break;
+                case "quit":
+                    awaitSearch();
+                    return false;
+                default:
+                    send("info string unknown command " + words[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            send("info string " + e.getMessage());
+        }
+        return true;
+    }
+
+    public void shutdown() {
+        awaitSearch();
+        searcher.shutdown();
+    }
+
+    private Position parsePosition(String[] words) {
+        StringBuilder moves = new StringBuilder();
+        for (int i = 1; i < words.length; i++) {
+            if (words[i].equals("startpos") || words[i].equals("moves")) continue;
+            moves.append(words[i]);
+        }
+        return Position.fromMoves(moves.toString());
+    }
+
+    private void go(String[] words) {
+        int depth = position.getRows() * position.getCols() - position.getPly();
+        long movetime = 0, nodes = 0;
+        for (int i = 1; i + 1 < words.length; i += 2) {
+            long value = Long.parseLong(words[i + 1]);
+            switch (words[i]) {
+                case "depth": depth = (int) Math.max(1, Math.min(depth, value)); break;
+                case "movetime": movetime = value; break;
+                case "nodes": nodes = value; break;
+                default: throw new IllegalArgumentException("unknown go option " + words[i]);
+            }
+        }
+        if (running != null && !running.isDone()) {
+            send("info string search already running");
+            return;
+        }
+        if (position.lastMoveWon() || position.isFull()) {
+            send("info string game over");
+            send("bestmove none");
+            return;
+        }
+
+        sync.sync(position);
+        char player = BoardSync.toDisc(position.sideToMove());
+        long budget = movetime > 0 ? Math.max(1, movetime - MOVETIME_OVERHEAD_MS) : 0;
+        cancellation = new SearchCancellation(budget, nodes);
+        engine.setCancellation(cancellation);
+        int maxDepth = depth;
+        running = searcher.submit(() -> {
+            int best;
+            try {
+                best = engine.findBestMoveIterative(player, maxDepth, (d, score, move, stats) ->
+                        send(String.format("info depth %d score %d nodes %d nps %.0f time %d pv %s", d, score,
+                                stats.getNodes(), stats.getNodesPerSecond(), stats.getElapsedNanos() / 1_000_000,
+                                formatPv(engine.getPrincipalVariation(player, move, d)))));
+            } finally {
+                engine.setCancellation(SearchCancellation.NONE);
+            }
+            send("bestmove " + (best < 0 ? "none" : String.valueOf(best + 1)));
+        });
+    }
+
+    /** Stop the running search and wait for it to finish. */
+    private void awaitSearch() {
+        if (running == null) return;
+        cancellation.stop();
+        try {
+            running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            send("info string search failed: " + e.getCause());
+        }
+        running = null;
+    }
+
+    private static String formatPv(List<Integer> pv) {
+        StringBuilder sb = new StringBuilder();
+        for (int col : pv) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(col + 1);
+        }
+        return sb.toString();
+    }
+
+    private void send(String line) {
+        synchronized (out) {
+            out.println(line);
+            out.flush();
+        }
+    }
+}
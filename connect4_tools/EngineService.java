@@ -0,0 +1,342 @@
+/**
+ * EngineService.java
+ * Embedded HTTP service hosting many concurrent games, each with its own board and engine.
+ * - Requests run on virtual threads (one per request, no platform thread per game)
+ * - Searches run on a fixed pool of CPU-count platform threads, so a burst of moves
+ *   queues instead of oversubscribing the cores
+ * - Engines come from an EnginePool and go back to it when a game ends, so new games
+ *   start on warmed instances
+ * - Sessions idle for longer than the timeout are dropped
+ * Requires JDK 21 (virtual threads).
+ *
+ * API (columns are 1-based, responses are JSON):
+ *   POST   /games?engine=ai-moderate&first=human|ai   new game
+ *   GET    /games/{id}                                game state
+ *   POST   /games/{id}/moves?col=4                    play a move; the engine replies in the same response
+ *   DELETE /games/{id}                                end the game
+ *   GET    /health                                    session count
+ *
+ * Usage: java EngineService [--port 8080] [--search-threads N] [--idle-minutes 30] [--max-sessions 100000]
+ *                           [--warm engine=count,...]
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class EngineService {
+
+    /** One game: its own Position and Engine (which owns the native board and caches). */
+    static final class Session {
+        final String id;
+        final String engineName;
+        final Engine engine;
+        final Position position = new Position();
+        // ReentrantLock, not synchronized: a virtual thread waiting on a monitor would pin its carrier
+        final ReentrantLock lock = new ReentrantLock();
+        volatile long lastUsedNanos = System.nanoTime();
+        int aiSide;
+        int lastAiMove = -1;
+        boolean closed;   // engine returned to the pool; guarded by lock
+
+        Session(String id, String engineName, Engine engine) {
+            this.id = id;
+            this.engineName = engineName;
+            this.engine = engine;
+        }
+
+        boolean isOver() {
+            return position.lastMoveWon() || position.isFull();
+        }
+    }
+
+    /** The engine crashed or answered nonsense: a server fault (500), not a bad request. */
+    static final class EngineFailureException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        EngineFailureException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService searchPool;
+    private final HttpServer server;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final EnginePool pool;
+    private final long idleNanos;
+    // One permit per live session: taken before a session is created, returned by close()
+    private final Semaphore sessionSlots;
+
+    public EngineService(int port, int searchThreads, long idleMinutes, int maxSessions) throws IOException {
+        this.idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        this.sessionSlots = new Semaphore(maxSessions);
+        this.pool = new EnginePool(Math.max(1, searchThreads * 4));
+        this.searchPool = Executors.newFixedThreadPool(searchThreads);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/games", this::handleGames);
+        server.createContext("/health", ex -> respond(ex, 200, "{\"sessions\":" + sessions.size() + "}"));
+        sweeper.scheduleAtFixedRate(this::dropIdleSessions, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long idle = 30;
+        int max = 100_000;
+        String warm = "";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(args[++i]); break;
+                case "--search-threads": threads = Integer.parseInt(args[++i]); break;
+                case "--idle-minutes": idle = Long.parseLong(args[++i]); break;
+                case "--max-sessions": max = Integer.parseInt(args[++i]); break;
+                case "--warm": warm = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        EngineService service = new EngineService(port, threads, idle, max);
+        for (String spec : warm.split(",")) {
+            if (spec.isEmpty()) continue;
+            String[] kv = spec.split("=");
+            service.pool.warm(kv[0], kv.length > 1 ? Integer.parseInt(kv[1]) : 1);
+        }
+        service.start();
+        System.out.println("Connect 4 engine service on port " + port + ", " + threads + " search threads");
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        sweeper.shutdownNow();
+        searchPool.shutdownNow();
+    }
+
+    private void handleGames(HttpExchange ex) throws IOException {
+        try {
+            String[] path = ex.getRequestURI().getPath().split("/");   // "", "games", id, "moves"
+            Map<String, String> query = parseQuery(ex.getRequestURI().getRawQuery());
+            String method = ex.getRequestMethod();
+            if (path.length == 2 && method.equals("POST")) {
+                createGame(ex, query);
+            } else if (path.length == 3 && method.equals("GET")) {
+                Session s = find(path[2]);
+                s.lock.lock();
+                try {
+                    respond(ex, 200, toJson(s));
+                } finally {
+                    s.lock.unlock();
+                }
+            } else if (path.length == 3 && method.equals("DELETE")) {
+                Session s = sessions.remove(path[2]);
+                if (s != null) {
+                    s.lock.lock();
+                    try {
+                        close(s);
+                    } finally {
+                        s.lock.unlock();
+                    }
+                }
+                respond(ex, 204, null);
+            } else if (path.length == 4 && path[3].equals("moves") && method.equals("POST")) {
+                playMove(ex, find(path[2]), query);
+            } else {
+                respond(ex, 404, error("no such endpoint"));
+            }
+        } catch (NoSuchElementException e) {
+            respond(ex, 404, error(e.getMessage()));
+        } catch (EngineFailureException e) {
+            respond(ex, 500, error(e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            respond(ex, 400, error(e.getMessage()));
+        } catch (Exception e) {
+            respond(ex, 500, error(String.valueOf(e)));
+        }
+    }
+
+    private void createGame(HttpExchange ex, Map<String, String> query) throws Exception {
+        String engineName = query.getOrDefault("engine", "ai-moderate");
+        List<String> accepted = sessionEngineNames();
+        if (!accepted.contains(engineName)) {
+            throw new IllegalArgumentException("Engine '" + engineName + "' is not available per session, expected one of " + accepted);
+        }
+        if (!sessionSlots.tryAcquire()) {
+            respond(ex, 503, error("session limit reached"));
+            return;
+        }
+        Engine engine;
+        try {
+            engine = pool.acquire(engineName);
+        } catch (RuntimeException e) {
+            sessionSlots.release();
+            throw e;
+        }
+        Session s = new Session(Long.toString(nextId.getAndIncrement(), 36), engineName, engine);
+        boolean aiFirst = query.getOrDefault("first", "human").equals("ai");
+        s.aiSide = aiFirst ? 1 : 2;
+        // Locked before it is published, so no request can play before the AI's first move
+        s.lock.lock();
+        try {
+            sessions.put(s.id, s);
+            try {
+                if (aiFirst) aiMove(s);
+            } catch (Exception e) {
+                sessions.remove(s.id);
+                close(s);
+                throw e;
+            }
+            respond(ex, 201, toJson(s));
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    private void playMove(HttpExchange ex, Session s, Map<String, String> query) throws Exception {
+        String colParam = query.get("col");
+        if (colParam == null) throw new IllegalArgumentException("missing col");
+        int col = Integer.parseInt(colParam) - 1;
+        s.lock.lock();
+        try {
+            if (s.closed) throw new NoSuchElementException("no game " + s.id);
+            if (s.isOver()) throw new IllegalStateException("game is over");
+            if (s.position.sideToMove() == s.aiSide) throw new IllegalStateException("not your turn");
+            if (!s.position.canPlay(col)) throw new IllegalArgumentException("column " + (col + 1) + " is not playable");
+            int lastAiMove = s.lastAiMove;
+            s.position.play(col);
+            s.lastAiMove = -1;
+            if (!s.isOver()) {
+                try {
+                    aiMove(s);
+                } catch (Exception e) {
+                    // Take the human move back so the game stays playable; resync the engine's board
+                    s.position.undo();
+                    s.lastAiMove = lastAiMove;
+                    s.engine.newGame();
+                    throw e;
+                }
+            }
+            respond(ex, 200, toJson(s));
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    /** Engine names a session accepts: every Engines name but the solver. */
+    static List<String> sessionEngineNames() {
+        List<String> names = Engines.names();
+        names.remove("solver");
+        return names;
+    }
+
+    /** Runs the engine on the CPU pool; the calling virtual thread just parks until it is done. */
+    private void aiMove(Session s) throws Exception {
+        s.lastUsedNanos = System.nanoTime();
+        Position snapshot = s.position.copy();
+        SearchResult r;
+        try {
+            r = searchPool.submit(() -> s.engine.search(snapshot)).get();
+        } catch (ExecutionException e) {
+            throw new EngineFailureException("engine failed: " + e.getCause(), e.getCause());
+        }
+        if (!s.position.canPlay(r.getColumn())) {
+            throw new EngineFailureException("engine returned an illegal move " + (r.getColumn() + 1), null);
+        }
+        s.position.play(r.getColumn());
+        s.lastAiMove = r.getColumn();
+        s.lastUsedNanos = System.nanoTime();
+    }
+
+    private Session find(String id) {
+        Session s = sessions.get(id);
+        if (s == null) throw new NoSuchElementException("no game " + id);
+        s.lastUsedNanos = System.nanoTime();
+        return s;
+    }
+
+    private void dropIdleSessions() {
+        long now = System.nanoTime();
+        for (Session s : sessions.values()) {
+            if (now - s.lastUsedNanos <= idleNanos || !s.lock.tryLock()) continue;
+            try {
+                sessions.remove(s.id);
+                close(s);
+            } finally {
+                s.lock.unlock();
+            }
+        }
+    }
+
+    /** Hand the session's engine back to the pool and free its slot; caller holds the session lock. */
+    private void close(Session s) {
+        if (s.closed) return;
+        s.closed = true;
+        pool.release(s.engine);
+        sessionSlots.release();
+    }
+
+    static String toJson(Session s) {
+        Position p = s.position;
+        String status = p.lastMoveWon() ? "won" : p.isFull() ? "draw" : "playing";
+        int winner = p.lastMoveWon() ? Position.moverAt(p.getPly() - 1) : 0;
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"id\":\"").append(s.id)
+          .append("\",\"engine\":\"").append(s.engineName)
+          .append("\",\"moves\":\"").append(p.toMoveString())
+          .append("\",\"aiSide\":").append(s.aiSide)
+          .append(",\"toMove\":").append(p.sideToMove())
+          .append(",\"status\":\"").append(status)
+          .append("\",\"winner\":").append(winner)
+          .append(",\"aiMove\":").append(s.lastAiMove < 0 ? "null" : String.valueOf(s.lastAiMove + 1))
+          .append(",\"board\":[");
+        for (int r = 0; r < p.getRows(); r++) {
+            if (r > 0) sb.append(',');
+            sb.append('"');
+            for (int c = 0; c < p.getCols(); c++) sb.append(".12".charAt(p.cellAt(r, c)));
+            sb.append('"');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    private static Map<String, String> parseQuery(String raw) {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return query;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange ex, int status, String body) throws IOException {
+        if (body == null) {
+            ex.sendResponseHeaders(status, -1);
+            ex.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
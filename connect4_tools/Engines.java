@@ -0,0 +1,32 @@
+/**
+ * Engines.java
+ * Name -> Engine factory shared by the headless runners.
+ */
+
+import java.util.*;
+
+public final class Engines {
+
+    private Engines() {
+    }
+
+    /** Every engine name accepted by create, weakest-first within each family; the exact solver last. */
+    public static List<String> names() {
+        List<String> names = new ArrayList<>();
+        names.add("greedy");
+        for (DivideAndConquerEngine.Variant v : DivideAndConquerEngine.Variant.values()) names.add(v.engineName);
+        for (Connect4AIEngine.Level l : Connect4AIEngine.Level.values()) names.add(l.engineName);
+        names.add("solver");
+        return names;
+    }
+
+    public static Engine create(String name) {
+        if (name.equals("greedy")) return new GreedyEngine();
+        for (DivideAndConquerEngine.Variant v : DivideAndConquerEngine.Variant.values())
+            if (v.engineName.equals(name)) return new DivideAndConquerEngine(v);
+        for (Connect4AIEngine.Level l : Connect4AIEngine.Level.values())
+            if (l.engineName.equals(name)) return new Connect4AIEngine(l);
+        if (name.equals("solver")) return new SolverEngine();
+        throw new IllegalArgumentException("Unknown engine '" + name + "', expected one of " + names());
+    }
+}
@@ -0,0 +1,299 @@
+/**
+ * EvalTuner.java
+ * Texel-style tuning of the evaluation weights against game outcomes.
+ * - Dataset: every position of every finished game in one or more GameRecordWriter archives
+ *   (after --skip-plies opening plies), labelled 1 / 0.5 / 0 for the side to move's result
+ * - Each evaluator is linear in its weights, so its terms are extracted once into a flat
+ *   float[] (positions x terms) and the eval is a dot product
+ * - Loss: mean (sigmoid(K * eval) - label)^2. K is fitted first with the current weights,
+ *   then the weights are fitted with Adam; loss and gradient are computed in parallel chunks
+ * - Output: a properties file in the format EvalWeights and GameBoard read at startup
+ *
+ * Weight groups (terms are from the side to move's point of view):
+ *   dnc     DivideAndConquerGreedy.evaluatePositionDnC: 4 quadrant weights, connected 3 / 2
+ *   line    DivideAndConquer.evaluateLine: open 4-windows with 1 / 2 / 3 discs (own minus opponent's)
+ *   greedy  GameBoard.evaluateDirection: runs of 2 / 3 (own minus opponent's)
+ * line and greedy are move scores in their engines; here they are fitted as position
+ * scores over the same terms, which sets their relative size. Weights that only matter at
+ * a won position (4 in a row) are not in the dataset and keep their values.
+ *
+ * Usage: java EvalTuner <records>... [--out eval-weights.properties] [--skip-plies 4]
+ *                       [--max-positions N] [--iterations 400] [--threads N]
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class EvalTuner {
+
+    private static final int[][] DIRECTIONS = { { 0, 1 }, { 1, 0 }, { 1, 1 }, { 1, -1 } };
+
+    /** One group of weights and its term matrix. */
+    static final class Group {
+        final String title;
+        final String[] keys;
+        final double[] weights;
+        final double[] start;
+        float[] terms;           // positions x keys.length, row-major
+        double k, lossBefore, lossAfter;
+
+        Group(String title, String[] keys, int[] initial) {
+            this.title = title;
+            this.keys = keys;
+            this.weights = new double[initial.length];
+            for (int i = 0; i < initial.length; i++) weights[i] = initial[i];
+            this.start = weights.clone();
+        }
+    }
+
+    private final int threads;
+    private final ExecutorService pool;
+    private float[] labels = new float[1 << 16];
+    private int n;
+
+    private final Group dnc = new Group("DivideAndConquerGreedy.evaluatePositionDnC",
+            new String[] { "dnc.quadrant1", "dnc.quadrant2", "dnc.quadrant3", "dnc.quadrant4", "dnc.connected3", "dnc.connected2" },
+            new int[] { EvalWeights.QUADRANT_1, EvalWeights.QUADRANT_2, EvalWeights.QUADRANT_3, EvalWeights.QUADRANT_4,
+                        EvalWeights.CONNECTED_3, EvalWeights.CONNECTED_2 });
+    private final Group line = new Group("DivideAndConquer.evaluateLine",
+            new String[] { "line.one", "line.two", "line.three" },
+            new int[] { EvalWeights.LINE_1, EvalWeights.LINE_2, EvalWeights.LINE_3 });
+    private final Group greedy = new Group("GameBoard.evaluateDirection",
+            new String[] { "greedy.run2", "greedy.run3" },
+            new int[] { GameBoard.RUN_2_SCORE, GameBoard.RUN_3_SCORE });
+    private final Group[] groups = { dnc, line, greedy };
+
+    public EvalTuner(int threads) {
+        this.threads = threads;
+        this.pool = Executors.newFixedThreadPool(threads);
+        for (Group g : groups) g.terms = new float[labels.length * g.keys.length];
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Path> files = new ArrayList<>();
+        String out = "eval-weights.properties";
+        int skip = 4, iterations = 400, threads = Runtime.getRuntime().availableProcessors();
+        long max = Long.MAX_VALUE;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out": out = args[++i]; break;
+                case "--skip-plies": skip = Integer.parseInt(args[++i]); break;
+                case "--max-positions": max = Long.parseLong(args[++i]); break;
+                case "--iterations": iterations = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                default: files.add(Paths.get(args[i]));
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Usage: java EvalTuner <records>... [--out FILE] [--skip-plies 4] [--max-positions N] [--iterations 400] [--threads N]");
+            System.exit(2);
+        }
+
+        EvalTuner tuner = new EvalTuner(threads);
+        long start = System.nanoTime();
+        for (Path f : files) tuner.load(f, skip, max);
+        System.out.println(String.format("%d positions from %d file(s) in %.1f s", tuner.n, files.size(),
+                (System.nanoTime() - start) / 1e9));
+        try {
+            for (Group g : tuner.groups) {
+                tuner.tune(g, iterations);
+                System.out.println(String.format("%-45s K=%.5f  loss %.6f -> %.6f  %s -> %s", g.title, g.k,
+                        g.lossBefore, g.lossAfter, Arrays.toString(round(g.start)), Arrays.toString(round(g.weights))));
+            }
+        } finally {
+            tuner.pool.shutdown();
+        }
+        tuner.write(Paths.get(out));
+        System.out.println("Weights written to " + out);
+    }
+
+    // ---------------------------------------------------------------------
+    // Dataset
+    // ---------------------------------------------------------------------
+
+    /** Add the positions of every finished game in file. */
+    void load(Path file, int skipPlies, long maxPositions) throws IOException {
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            int rows = reader.getRows(), cols = reader.getCols();
+            Board board = new Board(rows, cols);
+            DivideAndConquerGreedy eval = new DivideAndConquerGreedy(board);
+            GameRecordReader.Cursor c = reader.cursor();
+            while (c.next() && n < maxPositions) {
+                int result = c.result();
+                if ((result & GameRecordWriter.FORFEIT_FLAG) != 0 || result == GameRecordWriter.RESULT_UNFINISHED) continue;
+                int moves = c.moveCount();
+                // the last position is decided (won or full), not an evaluation target
+                for (int ply = 0; ply < moves - 1 && n < maxPositions; ply++) {
+                    board.insertDisc(c.move(ply), ply % 2 == 0 ? 'R' : 'Y');
+                    if (ply + 1 < skipPlies) continue;
+                    int toMove = (ply + 1) % 2 == 0 ? 1 : 2;
+                    add(board, eval, toMove, result);
+                }
+                for (int ply = moves - 2; ply >= 0; ply--) board.removeDisc(c.move(ply));
+            }
+        }
+    }
+
+    private void add(Board board, DivideAndConquerGreedy eval, int toMove, int result) {
+        if (n == labels.length) {
+            labels = Arrays.copyOf(labels, n * 2);
+            for (Group g : groups) g.terms = Arrays.copyOf(g.terms, n * 2 * g.keys.length);
+        }
+        labels[n] = result == GameRecordWriter.RESULT_DRAW ? 0.5f
+                : (result == GameRecordWriter.RESULT_FIRST_WON) == (toMove == 1) ? 1f : 0f;
+        char player = toMove == 1 ? 'R' : 'Y';
+        int[] f = eval.evaluationFeaturesDnC(player);
+        for (int i = 0; i < f.length; i++) dnc.terms[n * f.length + i] = f[i];
+        lineTerms(board.getBoard(), player, line.terms, n * 3);
+        runTerms(board.getBoard(), player, greedy.terms, n * 2);
+        n++;
+    }
+
+    /** Open 4-windows holding 1 / 2 / 3 of player's discs, minus the opponent's. */
+    static void lineTerms(char[][] g, char player, float[] out, int at) {
+        int rows = g.length, cols = g[0].length;
+        for (int[] d : DIRECTIONS) {
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int er = r + 3 * d[0], ec = c + 3 * d[1];
+                    if (er < 0 || er >= rows || ec < 0 || ec >= cols) continue;
+                    int own = 0, opp = 0;
+                    for (int i = 0; i < 4; i++) {
+                        char cell = g[r + i * d[0]][c + i * d[1]];
+                        if (cell == player) own++;
+                        else if (cell != ' ' && cell != 0) opp++;
+                    }
+                    if (opp == 0 && own > 0 && own < 4) out[at + own - 1]++;
+                    else if (own == 0 && opp > 0 && opp < 4) out[at + opp - 1]--;
+                }
+            }
+        }
+    }
+
+    /** Maximal runs of 2 / 3 discs in any direction, player's minus the opponent's. */
+    static void runTerms(char[][] g, char player, float[] out, int at) {
+        int rows = g.length, cols = g[0].length;
+        for (int[] d : DIRECTIONS) {
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    char cell = g[r][c];
+                    if (cell != 'R' && cell != 'Y') continue;
+                    int pr = r - d[0], pc = c - d[1];
+                    if (pr >= 0 && pr < rows && pc >= 0 && pc < cols && g[pr][pc] == cell) continue;   // not a run start
+                    int len = 1;
+                    while (true) {
+                        int nr = r + len * d[0], nc = c + len * d[1];
+                        if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || g[nr][nc] != cell) break;
+                        len++;
+                    }
+                    if (len == 2 || len == 3) out[at + len - 2] += (cell == player) ? 1 : -1;
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Fitting
+    // ---------------------------------------------------------------------
+
+    void tune(Group g, int iterations) throws InterruptedException {
+        g.k = fitK(g);
+        g.lossBefore = lossAndGradient(g, g.weights, g.k, null);
+
+        // Adam, with steps scaled to each weight's starting size
+        int m = g.weights.length;
+        double[] grad = new double[m], mom = new double[m], vel = new double[m];
+        double beta1 = 0.9, beta2 = 0.999, eps = 1e-12;
+        for (int t = 1; t <= iterations; t++) {
+            lossAndGradient(g, g.weights, g.k, grad);
+            for (int i = 0; i < m; i++) {
+                mom[i] = beta1 * mom[i] + (1 - beta1) * grad[i];
+                vel[i] = beta2 * vel[i] + (1 - beta2) * grad[i] * grad[i];
+                double mh = mom[i] / (1 - Math.pow(beta1, t));
+                double vh = vel[i] / (1 - Math.pow(beta2, t));
+                double lr = 0.02 * Math.max(1, Math.abs(g.start[i]));
+                g.weights[i] -= lr * mh / (Math.sqrt(vh) + eps);
+            }
+        }
+        g.lossAfter = lossAndGradient(g, g.weights, g.k, null);
+    }
+
+    /** Scale K minimising the loss of the current weights (golden-section search on log K). */
+    private double fitK(Group g) throws InterruptedException {
+        double lo = Math.log(1e-6), hi = Math.log(1.0);
+        double phi = (Math.sqrt(5) - 1) / 2;
+        for (int i = 0; i < 40; i++) {
+            double a = hi - phi * (hi - lo), b = lo + phi * (hi - lo);
+            if (lossAndGradient(g, g.weights, Math.exp(a), null) < lossAndGradient(g, g.weights, Math.exp(b), null)) hi = b;
+            else lo = a;
+        }
+        return Math.exp((lo + hi) / 2);
+    }
+
+    /** Mean squared error over the dataset; fills grad (d loss / d weight) when not null. */
+    double lossAndGradient(Group g, double[] w, double k, double[] grad) throws InterruptedException {
+        int m = w.length;
+        int chunks = threads * 4;
+        int per = (n + chunks - 1) / chunks;
+        List<Future<double[]>> parts = new ArrayList<>(chunks);
+        for (int ch = 0; ch < chunks; ch++) {
+            int from = ch * per, to = Math.min(n, from + per);
+            parts.add(pool.submit(() -> {
+                double[] acc = new double[m + 1];   // gradient..., loss
+                float[] x = g.terms;
+                for (int p = from; p < to; p++) {
+                    int base = p * m;
+                    double e = 0;
+                    for (int i = 0; i < m; i++) e += w[i] * x[base + i];
+                    double s = 1 / (1 + Math.exp(-k * e));
+                    double diff = s - labels[p];
+                    acc[m] += diff * diff;
+                    if (grad != null) {
+                        double d = 2 * diff * s * (1 - s) * k;
+                        for (int i = 0; i < m; i++) acc[i] += d * x[base + i];
+                    }
+                }
+                return acc;
+            }));
+        }
+        double loss = 0;
+        if (grad != null) Arrays.fill(grad, 0);
+        for (Future<double[]> f : parts) {
+            double[] acc;
+            try {
+                acc = f.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            loss += acc[m];
+            if (grad != null) for (int i = 0; i < m; i++) grad[i] += acc[i];
+        }
+        if (grad != null) for (int i = 0; i < m; i++) grad[i] /= n;
+        return loss / n;
+    }
+
+    // ---------------------------------------------------------------------
+    // Output
+    // ---------------------------------------------------------------------
+
+    void write(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("# Evaluation weights tuned by EvalTuner on " + n + " positions");
+            out.println("# Load with -Dconnect4.weights=" + file + " or as ./eval-weights.properties");
+            for (Group g : groups) {
+                out.println();
+                out.println(String.format("# %s (K=%.5f, loss %.6f -> %.6f)", g.title, g.k, g.lossBefore, g.lossAfter));
+                int[] w = round(g.weights);
+                for (int i = 0; i < w.length; i++) out.println(g.keys[i] + "=" + w[i]);
+            }
+        }
+    }
+
+    private static int[] round(double[] w) {
+        int[] r = new int[w.length];
+        for (int i = 0; i < w.length; i++) r[i] = (int) Math.round(w[i]);
+        return r;
+    }
+}
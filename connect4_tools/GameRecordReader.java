@@ -0,0 +1,154 @@
+/**
+ * GameRecordReader.java
+ * Memory-mapped reader for GameRecordWriter archives (format described there).
+ * A Cursor is a flyweight over the mapping: next() moves it to the following record and
+ * the accessors decode in place, so scanning allocates nothing per game.
+ * One mapping covers files up to 2 GB (over 100 million typical games).
+ * A record cut short at the end of the file (interrupted writer) is ignored.
+ *
+ * Usage: java GameRecordReader <file> [--dump N]
+ */
+
+import java.io.*;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+public class GameRecordReader implements Closeable {
+
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+    private final int rows, cols;
+
+    public GameRecordReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException(file + " is larger than one mapping (2 GB)");
+        }
+        map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        if (size < GameRecordWriter.HEADER_BYTES || map.getInt(0) != GameRecordWriter.MAGIC
+                || map.get(4) != GameRecordWriter.VERSION) {
+            channel.close();
+            throw new IOException(file + " is not a game record file");
+        }
+        rows = map.get(5) & 0xFF;
+        cols = map.get(6) & 0xFF;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java GameRecordReader <file> [--dump N]");
+            System.exit(2);
+        }
+        int dump = args.length > 2 && args[1].equals("--dump") ? Integer.parseInt(args[2]) : 0;
+        try (GameRecordReader reader = new GameRecordReader(Paths.get(args[0]))) {
+            long start = System.nanoTime();
+            long games = 0, moves = 0, forfeits = 0;
+            long[] results = new long[4];
+            Cursor c = reader.cursor();
+            while (c.next()) {
+                games++;
+                moves += c.moveCount();
+                results[c.result() & 3]++;
+                if ((c.result() & GameRecordWriter.FORFEIT_FLAG) != 0) forfeits++;
+                if (games <= dump) System.out.println(c.moveString() + " result " + c.result() + " tag " + c.tag());
+            }
+            double ms = (System.nanoTime() - start) / 1e6;
+            System.out.println(String.format("%d games (%dx%d), %.1f moves/game, %.1f bytes/game",
+                    games, reader.rows, reader.cols, games == 0 ? 0.0 : (double) moves / games,
+                    games == 0 ? 0.0 : (double) (reader.map.capacity() - GameRecordWriter.HEADER_BYTES) / games));
+            System.out.println(String.format("first won %d, second won %d, draw %d, unfinished %d, forfeits %d",
+                    results[GameRecordWriter.RESULT_FIRST_WON], results[GameRecordWriter.RESULT_SECOND_WON],
+                    results[GameRecordWriter.RESULT_DRAW], results[GameRecordWriter.RESULT_UNFINISHED], forfeits));
+            System.out.println(String.format("scanned in %.1f ms (%.1f M games/s)", ms, games / ms / 1000));
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /** A new cursor positioned before the first record. */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public final class Cursor {
+        private int offset = -1;     // start of the current record, -1 before the first
+        private int next = GameRecordWriter.HEADER_BYTES;
+
+        /** Advance to the next record; false at the end of the file. */
+        public boolean next() {
+            int limit = map.capacity();
+            if (next + GameRecordWriter.RECORD_HEADER_BYTES > limit) return false;
+            int n = map.get(next) & 0xFF;
+            int end = next + GameRecordWriter.RECORD_HEADER_BYTES + (3 * n + 7) / 8;
+            if (end > limit) return false;
+            offset = next;
+            next = end;
+            return true;
+        }
+
+        /** Byte offset of the current record in the file. */
+        public int offset() {
+            return offset;
+        }
+
+        public int moveCount() {
+            return map.get(offset) & 0xFF;
+        }
+
+        /** GameRecordWriter.RESULT_* in the low 2 bits, plus FORFEIT_FLAG. */
+        public int result() {
+            return map.get(offset + 1) & 0xFF;
+        }
+
+        public int tag() {
+            return map.getShort(offset + 2) & 0xFFFF;
+        }
+
+        /** 0-based column of move i. */
+        public int move(int i) {
+            int bit = 3 * i;
+            int at = offset + GameRecordWriter.RECORD_HEADER_BYTES + (bit >>> 3);
+            int v = map.get(at) & 0xFF;
+            if ((bit & 7) > 5) v |= (map.get(at + 1) & 0xFF) << 8;   // straddles two bytes
+            return (v >>> (bit & 7)) & 7;
+        }
+
+        /** Copy the moves into dst (at least moveCount() long); returns the count. */
+        public int moves(int[] dst) {
+            int n = moveCount();
+            for (int i = 0; i < n; i++) dst[i] = move(i);
+            return n;
+        }
+
+        /** Replay the game into a new Position (allocates; for convenience, not scanning). */
+        public Position toPosition() {
+            Position p = new Position(rows, cols);
+            int n = moveCount();
+            for (int i = 0; i < n; i++) p.play(move(i));
+            return p;
+        }
+
+        /** 1-based move string, as used by Position.fromMoves. */
+        public String moveString() {
+            StringBuilder sb = new StringBuilder(moveCount());
+            for (int i = 0; i < moveCount(); i++) sb.append(move(i) + 1);
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * GameRecordWriter.java
+ * Appends games to a compact binary archive; read it back with GameRecordReader.
+ *
+ * File layout (little-endian):
+ *   header  "C4GR", u8 version, u8 rows, u8 cols, u8 reserved
+ *   record  u8 moveCount, u8 result, u16 tag, moves packed 3 bits each (LSB first,
+ *           0-based columns), padded to a whole byte
+ * A 6x7 game of 30 moves takes 4 + 12 = 16 bytes. Boards need at most 8 columns and
+ * 255 cells. result: RESULT_* in the low 2 bits, FORFEIT_FLAG if the game ended on an
+ * illegal move. tag: free for the caller (source, engine pair, ...).
+ *
+ * Records are collected in a 64 KB buffer and written in one call when it fills and on
+ * flush/close. Opening an existing file checks its header, cuts off a record left
+ * incomplete by an interrupted writer and appends after the last complete one.
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+public class GameRecordWriter implements Closeable {
+
+    static final int MAGIC = 0x52473443;   // "C4GR" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_HEADER_BYTES = 4;
+
+    public static final int RESULT_UNFINISHED = 0;
+    public static final int RESULT_FIRST_WON = 1;
+    public static final int RESULT_SECOND_WON = 2;
+    public static final int RESULT_DRAW = 3;
+    public static final int FORFEIT_FLAG = 4;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final int rows, cols;
+    private long written;
+
+    public GameRecordWriter(Path file, int rows, int cols) throws IOException {
+        if (cols > 8 || rows * cols > 255) throw new IllegalArgumentException("Board too large for 3-bit records: " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            buffer.putInt(MAGIC).put((byte) VERSION).put((byte) rows).put((byte) cols).put((byte) 0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.get() != VERSION
+                    || (header.get() & 0xFF) != rows || (header.get() & 0xFF) != cols) {
+                channel.close();
+                throw new IOException(file + " is not a " + rows + "x" + cols + " game record file");
+            }
+            // Appending after a partial record would misalign every record that follows
+            long end = completeRecordsEnd();
+            if (end < channel.size()) channel.truncate(end);
+            channel.position(end);
+        }
+    }
+
+    /** Offset just past the last complete record, walking the record headers from the file header on. */
+    private long completeRecordsEnd() throws IOException {
+        long size = channel.size();
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        long pos = HEADER_BYTES;
+        while (pos < size) {
+            chunk.clear();
+            int len = channel.read(chunk, pos);
+            for (int p = 0; p < len; ) {
+                long end = pos + RECORD_HEADER_BYTES + (3 * (chunk.get(p) & 0xFF) + 7) / 8;
+                if (end > size) return pos;
+                p += (int) (end - pos);
+                pos = end;
+            }
+        }
+        return pos;
+    }
+
+    /** Append a finished (or abandoned) game. */
+    public void append(Position game, int result, int tag) throws IOException {
+        if (game.getRows() != rows || game.getCols() != cols) throw new IllegalArgumentException("Board size differs from the file");
+        int n = game.getPly();
+        ensureRoom(RECORD_HEADER_BYTES + (3 * n + 7) / 8);
+        buffer.put((byte) n).put((byte) result).putShort((short) tag);
+        int acc = 0, bits = 0;
+        for (int i = 0; i < n; i++) {
+            acc |= game.getMove(i) << bits;
+            bits += 3;
+            if (bits >= 8) {
+                buffer.put((byte) acc);
+                acc >>>= 8;
+                bits -= 8;
+            }
+        }
+        if (bits > 0) buffer.put((byte) acc);
+        written++;
+    }
+
+    /** Result code for a game whose last position is game (RESULT_UNFINISHED if still open). */
+    public static int resultOf(Position game) {
+        if (game.lastMoveWon()) return Position.moverAt(game.getPly() - 1) == 1 ? RESULT_FIRST_WON : RESULT_SECOND_WON;
+        return game.isFull() ? RESULT_DRAW : RESULT_UNFINISHED;
+    }
+
+    /** Games appended through this writer. */
+    public long getWritten() {
+        return written;
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) flush();
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * GreedyEngine.java
+ * Engine adapter for connect4_greedy's Greedy1.
+ * Greedy1 always plays as player 2 against player 1, so the native GameBoard
+ * stores the side being searched for as 2. Moves are synced through the
+ * GameBoard move log (stepBack + makeMove); only a change of side forces a replay.
+ */
+
+public class GreedyEngine implements Engine {
+    private final Greedy1 greedy = new Greedy1();
+    private GameBoard board;
+    private int selfParity = -1;
+
+    @Override
+    public String getName() {
+        return "greedy";
+    }
+
+    @Override
+    public SearchResult search(Position position) {
+        sync(position);
+        long start = System.nanoTime();
+        if (board.isBoardFull()) return new SearchResult(-1, 0, 0, System.nanoTime() - start);
+        int col = greedy.getBestMove(board);
+        long elapsed = System.nanoTime() - start;
+        return new SearchResult(col, greedy.getLastMoveScore(), greedy.getLastNodeCount(), elapsed);
+    }
+
+    @Override
+    public void newGame() {
+        board = null;
+        selfParity = -1;
+    }
+
+    private void sync(Position position) {
+        int parity = position.getPly() % 2;
+        if (board == null || board.getRows() != position.getRows() || board.getCols() != position.getCols()
+                || parity != selfParity) {
+            board = new GameBoard(position.getRows(), position.getCols());
+            selfParity = parity;
+        }
+        int common = 0;
+        int target = position.getPly();
+        while (common < board.getPly() && common < target && board.getMoveColumn(common) == position.getMove(common)) {
+            common++;
+        }
+        board.branchAt(common);
+        for (int i = common; i < target; i++) {
+            board.makeMove(position.getMove(i), (i % 2 == selfParity) ? 2 : 1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * MicroBenchmark.java
+ * Minimal JMH-style harness (no external dependencies): time-boxed warm-up,
+ * several measurement iterations, throughput with error, and allocation per
+ * operation from the JVM's per-thread allocation counter.
+ */
+
+import java.lang.management.ManagementFactory;
+
+public final class MicroBenchmark {
+
+    /** One benchmarked operation; i is the invocation index, the result is consumed. */
+    public interface Op {
+        long run(int i);
+    }
+
+    public static final class Result {
+        public final String name;
+        public final double opsPerSecond;
+        public final double opsPerSecondError;
+        public final double nanosPerOp;
+        public final double bytesPerOp;
+
+        Result(String name, double opsPerSecond, double opsPerSecondError, double nanosPerOp, double bytesPerOp) {
+            this.name = name;
+            this.opsPerSecond = opsPerSecond;
+            this.opsPerSecondError = opsPerSecondError;
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+
+    private static volatile long blackhole;
+
+    private final double warmupSeconds;
+    private final double iterationSeconds;
+    private final int iterations;
+    private final com.sun.management.ThreadMXBean threads;
+
+    public MicroBenchmark(double warmupSeconds, double iterationSeconds, int iterations) {
+        this.warmupSeconds = warmupSeconds;
+        this.iterationSeconds = iterationSeconds;
+        this.iterations = iterations;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = (bean instanceof com.sun.management.ThreadMXBean)
+                ? (com.sun.management.ThreadMXBean) bean : null;
+        if (threads != null && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public Result measure(String name, Op op) {
+        runFor(op, (long) (warmupSeconds * 1e9), new long[2]);
+
+        double[] throughput = new double[iterations];
+        long totalOps = 0, totalNanos = 0, totalBytes = 0;
+        for (int it = 0; it < iterations; it++) {
+            long[] counters = new long[2];
+            long bytesBefore = allocatedBytes();
+            runFor(op, (long) (iterationSeconds * 1e9), counters);
+            totalBytes += allocatedBytes() - bytesBefore;
+            totalOps += counters[0];
+            totalNanos += counters[1];
+            throughput[it] = counters[0] * 1e9 / counters[1];
+        }
+
+        double mean = 0;
+        for (double t : throughput) mean += t;
+        mean /= iterations;
+        double var = 0;
+        for (double t : throughput) var += (t - mean) * (t - mean);
+        // 99.9% half-width with a normal approximation, like JMH's default error column
+        double error = iterations > 1 ? 3.29 * Math.sqrt(var / (iterations - 1)) / Math.sqrt(iterations) : 0;
+        double bytesPerOp = threads == null ? Double.NaN : (double) totalBytes / totalOps;
+        return new Result(name, mean, error, (double) totalNanos / totalOps, bytesPerOp);
+    }
+
+    /**
+     * Runs op in growing batches until budgetNanos elapse; counters = {ops, nanos}.
+     * Batches double for fast ops but never overshoot the remaining budget by more than one op.
+     */
+    private static void runFor(Op op, long budgetNanos, long[] counters) {
+        long sink = 0;
+        int batch = 1;
+        int index = 0;
+        long start = System.nanoTime();
+        long now = start;
+        while (now - start < budgetNanos) {
+            for (int i = 0; i < batch; i++) sink += op.run(index++);
+            counters[0] += batch;
+            now = System.nanoTime();
+            long perOp = Math.max(1, (now - start) / counters[0]);
+            long remaining = budgetNanos - (now - start);
+            batch = (int) Math.max(1, Math.min(Math.min(batch * 2L, 1 << 16), remaining / perOp));
+        }
+        counters[1] = now - start;
+        blackhole += sink;
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Perft.java
+ * Counts leaf positions exactly N plies from a position, using only make/unmake and the win check.
+ * Positions where the last move won (or the board is full) are terminal and have no children,
+ * so a branch that ends early does not reach depth N and is not counted.
+ *
+ * The counts are a correctness oracle for every board representation (they must match
+ * REFERENCE exactly) and leaves/sec is the raw speed of the make/unmake/win-check core.
+ *
+ * Usage: java Perft                              check REFERENCE on every backend
+ *        java Perft <depth> [moves] [--backend char|bit|all]
+ */
+
+import java.util.*;
+
+public class Perft {
+
+    /** The operations perft needs from a board representation. */
+    interface Backend {
+        String getName();
+
+        int getCols();
+
+        boolean canPlay(int col);
+
+        void play(int col);
+
+        void undo(int col);
+
+        /** True if the last move won or filled the board. */
+        boolean isTerminal();
+    }
+
+    /** connect4_engine's char[][] Board with DivideAndConquerGreedy.checkWin. */
+    static final class CharBoardBackend implements Backend {
+        private final Board board = new Board();
+        private final DivideAndConquerGreedy win = new DivideAndConquerGreedy(board);
+        private final char[] lastMover = new char[board.getRows() * board.getCols() + 1];
+        private int ply;
+
+        public String getName() {
+            return "char";
+        }
+
+        public int getCols() {
+            return board.getCols();
+        }
+
+        public boolean canPlay(int col) {
+            return board.isValidMove(col);
+        }
+
+        public void play(int col) {
+            char player = (ply % 2 == 0) ? 'R' : 'Y';
+            board.insertDisc(col, player);
+            lastMover[++ply] = player;
+        }
+
+        public void undo(int col) {
+            board.removeDisc(col);
+            ply--;
+        }
+
+        public boolean isTerminal() {
+            return ply > 0 && win.checkWin(lastMover[ply]) || board.isBoardFull();
+        }
+    }
+
+    static final class BitBoardBackend implements Backend {
+        private final BitBoard board = new BitBoard();
+
+        public String getName() {
+            return "bit";
+        }
+
+        public int getCols() {
+            return board.getCols();
+        }
+
+        public boolean canPlay(int col) {
+            return board.canPlay(col);
+        }
+
+        public void play(int col) {
+            board.play(col);
+        }
+
+        public void undo(int col) {
+            board.undo(col);
+        }
+
+        public boolean isTerminal() {
+            return board.lastMoveWon() || board.isFull();
+        }
+    }
+
+    /** Verified counts: {moves, count at depth 1, 2, ...}. Both backends agree on every entry. */
+    static final String[][] REFERENCE = {
+        { "", "7", "49", "343", "2401", "16807", "117649", "823536", "5673234", "39394572" },
+        { "4453", "7", "49", "343", "2317", "16218", "108118", "749587", "4968454" },
+        { "44434443323233211", "5", "25", "105", "489", "2000", "8932", "33488", "143663" },
+    };
+
+    public static long perft(Backend b, int depth) {
+        if (depth == 0 || b.isTerminal()) return depth == 0 ? 1 : 0;
+        long leaves = 0;
+        for (int col = 0; col < b.getCols(); col++) {
+            if (!b.canPlay(col)) continue;
+            b.play(col);
+            leaves += perft(b, depth - 1);
+            b.undo(col);
+        }
+        return leaves;
+    }
+
+    static Backend create(String name) {
+        switch (name) {
+            case "char": return new CharBoardBackend();
+            case "bit": return new BitBoardBackend();
+            default: throw new IllegalArgumentException("Unknown backend '" + name + "', expected char, bit or all");
+        }
+    }
+
+    static Backend setUp(String backend, String moves) {
+        Backend b = create(backend);
+        Position p = Position.fromMoves(moves);
+        for (int i = 0; i < p.getPly(); i++) b.play(p.getMove(i));
+        return b;
+    }
+
+    public static void main(String[] args) {
+        List<String> backends = Arrays.asList("char", "bit");
+        List<String> rest = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--backend")) {
+                String name = args[++i];
+                if (!name.equals("all")) backends = Collections.singletonList(name);
+            } else {
+                rest.add(args[i]);
+            }
+        }
+
+        if (rest.isEmpty()) {
+            System.exit(checkReference(backends) ? 0 : 1);
+        }
+        int depth = Integer.parseInt(rest.get(0));
+        String moves = rest.size() > 1 ? rest.get(1) : "";
+        for (String name : backends) {
+            Backend b = setUp(name, moves);
+            for (int d = 1; d <= depth; d++) {
+                long start = System.nanoTime();
+                long leaves = perft(b, d);
+                report(name, moves, d, leaves, System.nanoTime() - start, null);
+            }
+        }
+    }
+
+    static boolean checkReference(List<String> backends) {
+        boolean ok = true;
+        for (String name : backends) {
+            for (String[] ref : REFERENCE) {
+                Backend b = setUp(name, ref[0]);
+                for (int d = 1; d < ref.length; d++) {
+                    long start = System.nanoTime();
+                    long leaves = perft(b, d);
+                    long expected = Long.parseLong(ref[d]);
+                    report(name, ref[0], d, leaves, System.nanoTime() - start, leaves == expected ? "ok" : "MISMATCH, expected " + expected);
+                    ok &= leaves == expected;
+                }
+            }
+        }
+        System.out.println(ok ? "All reference counts match" : "Reference counts DO NOT match");
+        return ok;
+    }
+
+    private static void report(String backend, String moves, int depth, long leaves, long nanos, String check) {
+        System.out.println(String.format("%-5s %-20s depth %2d  %,14d leaves  %10.1f ms  %,14.0f leaves/s%s",
+                backend, moves.isEmpty() ? "(start)" : moves, depth, leaves, nanos / 1e6,
+                leaves * 1e9 / Math.max(1, nanos), check == null ? "" : "  " + check));
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Position.java
+ * Engine-neutral game position: board size plus the sequence of columns played.
+ * The first player is 1 ('R' in the DnC modules), the second player is 2 ('Y').
+ * Engines keep their own native board and replay only the moves that changed,
+ * so handing a Position to an engine never copies a board.
+ */
+
+import java.util.Arrays;
+
+public class Position {
+    private final int rows;
+    private final int cols;
+    private final int[] heights;
+    private final byte[] cells;      // row-major, row 0 = top (same as Board / GameBoard)
+    private final int[] moves;
+    private int ply;
+
+    public Position() {
+        this(6, 7);
+    }
+
+    public Position(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.heights = new int[cols];
+        this.cells = new byte[rows * cols];
+        this.moves = new int[rows * cols];
+    }
+
+    /**
+     * Parse a move string of 1-based column digits, e.g. "4453" (the format used
+     * by common Connect 4 position test files). Throws on illegal moves.
+     */
+    public static Position fromMoves(String moveString) {
+        return fromMoves(moveString, 6, 7);
+    }
+
+    public static Position fromMoves(String moveString, int rows, int cols) {
+        Position p = new Position(rows, cols);
+        for (int i = 0; i < moveString.length(); i++) {
+            int col = Character.digit(moveString.charAt(i), 10) - 1;
+            if (!p.canPlay(col)) {
+                throw new IllegalArgumentException("Illegal move " + (col + 1) + " at ply " + i + " in " + moveString);
+            }
+            p.play(col);
+        }
+        return p;
+    }
+
+    public Position copy() {
+        Position p = new Position(rows, cols);
+        for (int i = 0; i < ply; i++) p.play(moves[i]);
+        return p;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /** Number of moves played so far. */
+    public int getPly() {
+        return ply;
+    }
+
+    public int getMove(int index) {
+        if (index < 0 || index >= ply) {
+            throw new IndexOutOfBoundsException("Move " + index + " outside 0.." + (ply - 1));
+        }
+        return moves[index];
+    }
+
+    /** 1 if the first player is to move, 2 otherwise. */
+    public int sideToMove() {
+        return (ply % 2 == 0) ? 1 : 2;
+    }
+
+    /** Player (1/2) that made move number index. */
+    public static int moverAt(int index) {
+        return (index % 2 == 0) ? 1 : 2;
+    }
+
+    /** Cell owner: 0 empty, 1 first player, 2 second player. Row 0 is the top row. */
+    public int cellAt(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    public int getHeight(int col) {
+        return heights[col];
+    }
+
+    public boolean canPlay(int col) {
+        return col >= 0 && col < cols && heights[col] < rows;
+    }
+
+    public boolean isFull() {
+        return ply == rows * cols;
+    }
+
+    /** Returns the row where the disc landed. */
+    public int play(int col) {
+        if (!canPlay(col)) {
+            throw new IllegalArgumentException("Column " + col + " is not playable");
+        }
+        int row = rows - 1 - heights[col];
+        cells[row * cols + col] = (byte) sideToMove();
+        heights[col]++;
+        moves[ply++] = col;
+        return row;
+    }
+
+    public void undo() {
+        if (ply == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        int col = moves[--ply];
+        heights[col]--;
+        cells[(rows - 1 - heights[col]) * cols + col] = 0;
+    }
+
+    /** Would the side to move connect four by playing col? */
+    public boolean isWinningMove(int col) {
+        if (!canPlay(col)) return false;
+        int row = rows - 1 - heights[col];
+        int player = sideToMove();
+        return countLine(row, col, 0, 1, player) >= 4
+                || countLine(row, col, 1, 0, player) >= 4
+                || countLine(row, col, 1, 1, player) >= 4
+                || countLine(row, col, 1, -1, player) >= 4;
+    }
+
+    /** Did the last move connect four? */
+    public boolean lastMoveWon() {
+        if (ply == 0) return false;
+        int col = moves[ply - 1];
+        int row = rows - heights[col];
+        int player = moverAt(ply - 1);
+        return countLine(row, col, 0, 1, player) >= 4
+                || countLine(row, col, 1, 0, player) >= 4
+                || countLine(row, col, 1, 1, player) >= 4
+                || countLine(row, col, 1, -1, player) >= 4;
+    }
+
+    private int countLine(int row, int col, int dr, int dc, int player) {
+        int count = 1;
+        for (int r = row + dr, c = col + dc; r >= 0 && r < rows && c >= 0 && c < cols
+                && cells[r * cols + c] == player; r += dr, c += dc)
+            count++;
+        for (int r = row - dr, c = col - dc; r >= 0 && r < rows && c >= 0 && c < cols
+                && cells[r * cols + c] == player; r -= dr, c -= dc)
+            count++;
+        return count;
+    }
+
+    /** 1-based column digits, the inverse of fromMoves. */
+    public String toMoveString() {
+        StringBuilder sb = new StringBuilder(ply);
+        for (int i = 0; i < ply; i++) sb.append(moves[i] + 1);
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return rows + "x" + cols + " " + toMoveString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Position)) return false;
+        Position p = (Position) o;
+        return rows == p.rows && cols == p.cols && Arrays.equals(cells, p.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+}
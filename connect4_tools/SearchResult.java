@@ -0,0 +1,59 @@
+/**
+ * SearchResult.java
+ * What every Engine returns: chosen column, score and basic search stats.
+ * Scores are on the engine's own scale (higher is better for the side to move).
+ * Engines from connect4_engine also attach their full SearchStats.
+ */
+
+public class SearchResult {
+    private final int column;
+    private final int score;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final SearchStats stats;
+
+    public SearchResult(int column, int score, long nodes, long elapsedNanos) {
+        this.column = column;
+        this.score = score;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.stats = null;
+    }
+
+    public SearchResult(int column, int score, SearchStats stats, long elapsedNanos) {
+        this.column = column;
+        this.score = score;
+        this.nodes = stats.getNodes();
+        this.elapsedNanos = elapsedNanos;
+        this.stats = stats;
+    }
+
+    /** Chosen column (0-based), -1 if there is no legal move. */
+    public int getColumn() {
+        return column;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /** Positions visited, -1 if the engine does not count them. */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** Detailed counters, null for engines that only count nodes. */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return "column=" + column + " score=" + score + " nodes=" + nodes
+                + " time=" + (elapsedNanos / 1_000_000.0) + "ms" + (stats == null ? "" : " [" + stats + "]");
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Solver.java
+ * Exact Connect 4 solver on BitBoard: negamax with alpha-beta, a lossy
+ * transposition table of upper bounds, non-losing move generation, threat-count
+ * move ordering and a null-window driver.
+ *
+ * Score of a position for the side to move:
+ *   0 draw, (cells + 1 - moves) / 2 if it wins with its k-th remaining disc, negative if it loses
+ * (the convention of the common Connect 4 position test files).
+ * Middle and end-game positions solve in milliseconds; the empty 6x7 board takes minutes.
+ */
+
+public class Solver {
+
+    private static final int TABLE_BITS = 23;
+
+    private final int cells;
+    private final int cols;
+    private final int[] columnOrder;
+    // Key and stored value share one slot; collisions simply overwrite
+    private final long[] keys = new long[1 << TABLE_BITS];
+    private final byte[] values = new byte[1 << TABLE_BITS];
+    private long nodes;
+
+    public Solver() {
+        this(6, 7);
+    }
+
+    public Solver(int rows, int cols) {
+        this.cells = rows * cols;
+        this.cols = cols;
+        this.columnOrder = new int[cols];
+        // center first, then alternating outwards
+        for (int i = 0; i < cols; i++) columnOrder[i] = cols / 2 + (1 - 2 * (i % 2)) * (i + 1) / 2;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public void resetNodes() {
+        nodes = 0;
+    }
+
+    /** Forget every stored bound (call between unrelated workloads for reproducible node counts). */
+    public void reset() {
+        java.util.Arrays.fill(keys, 0);
+        java.util.Arrays.fill(values, (byte) 0);
+    }
+
+    public int minScore(BitBoard b) {
+        return -(cells - b.getMoves()) / 2;
+    }
+
+    public int maxScore(BitBoard b) {
+        return (cells + 1 - b.getMoves()) / 2;
+    }
+
+    /** Exact score of b for the side to move. The game must not be over. */
+    public int solve(BitBoard b) {
+        if (b.canWinNext()) return maxScore(b);
+        int min = -(cells - b.getMoves()) / 2;
+        int max = (cells + 1 - b.getMoves()) / 2;
+        while (min < max) {
+            int med = min + (max - min) / 2;
+            if (med <= 0 && min / 2 < med) med = min / 2;
+            else if (med >= 0 && max / 2 > med) med = max / 2;
+            int r = negamax(b, med, med + 1);
+            if (r <= med) max = r;
+            else min = r;
+        }
+        return min;
+    }
+
+    /** Best column for the side to move and its exact score: {column, score}. */
+    public int[] bestMove(BitBoard b) {
+        int bestCol = -1, bestScore = Integer.MIN_VALUE;
+        for (int col : columnOrder) {
+            if (!b.canPlay(col)) continue;
+            if (b.isWinningMove(col)) return new int[] { col, maxScore(b) };
+            b.play(col);
+            int score = b.isFull() ? 0 : -solve(b);
+            b.undo(col);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCol = col;
+            }
+        }
+        return new int[] { bestCol, bestScore };
+    }
+
+    /** Exact score of every column for the side to move, Integer.MIN_VALUE for full columns. */
+    public int[] scoreColumns(BitBoard b) {
+        int[] scores = new int[cols];
+        for (int col = 0; col < cols; col++) {
+            if (!b.canPlay(col)) {
+                scores[col] = Integer.MIN_VALUE;
+            } else if (b.isWinningMove(col)) {
+                scores[col] = maxScore(b);
+            } else {
+                b.play(col);
+                scores[col] = b.isFull() ? 0 : -solve(b);
+                b.undo(col);
+            }
+        }
+        return scores;
+    }
+
+    private int negamax(BitBoard b, int alpha, int beta) {
+        nodes++;
+        long next = b.nonLosingMoves();
+        if (next == 0) return -(cells - b.getMoves()) / 2;
+        if (b.getMoves() >= cells - 2) return 0;
+
+        int min = -(cells - 2 - b.getMoves()) / 2;
+        if (alpha < min) {
+            alpha = min;
+            if (alpha >= beta) return alpha;
+        }
+        int max = (cells - 1 - b.getMoves()) / 2;
+        long key = b.key();
+        int slot = (int) (key & ((1 << TABLE_BITS) - 1));
+        if (keys[slot] == key && values[slot] != 0) max = values[slot] + minScore(b) - 1;
+        if (beta > max) {
+            beta = max;
+            if (alpha >= beta) return beta;
+        }
+
+        // insertion sort of the candidate moves by threat count, center first on ties
+        long[] moves = new long[cols];
+        int[] scores = new int[cols];
+        int n = 0;
+        for (int i = cols - 1; i >= 0; i--) {
+            long move = next & b.columnBits(columnOrder[i]);
+            if (move == 0) continue;
+            int score = b.moveScore(move);
+            int pos = n++;
+            while (pos > 0 && scores[pos - 1] > score) {
+                moves[pos] = moves[pos - 1];
+                scores[pos] = scores[pos - 1];
+                pos--;
+            }
+            moves[pos] = move;
+            scores[pos] = score;
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            b.play(moves[i]);
+            int score = -negamax(b, -beta, -alpha);
+            b.undo(moves[i]);
+            if (score >= beta) return score;
+            if (score > alpha) alpha = score;
+        }
+        keys[slot] = key;
+        values[slot] = (byte) (alpha - minScore(b) + 1);
+        return alpha;
+    }
+}
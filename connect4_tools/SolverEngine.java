@@ -0,0 +1,54 @@
+/**
+ * SolverEngine.java
+ * Engine adapter for the exact bitboard Solver. Scores use the solver's
+ * convention (see Solver), so they are exact game values, not heuristics.
+ * Practical from the middle game on; opening positions can take minutes.
+ * The transposition table is kept across searches.
+ */
+
+public class SolverEngine implements Engine {
+    private Solver solver;
+    private int solverRows, solverCols;
+
+    @Override
+    public String getName() {
+        return "solver";
+    }
+
+    @Override
+    public SearchResult search(Position position) {
+        BitBoard board = toBitBoard(position);
+        long start = System.nanoTime();
+        getSolver(position).resetNodes();
+        int[] best = board.isFull() ? new int[] { -1, 0 } : solver.bestMove(board);
+        long elapsed = System.nanoTime() - start;
+        return new SearchResult(best[0], best[1], solver.getNodes(), elapsed);
+    }
+
+    @Override
+    public int[] scoreColumns(Position position) {
+        BitBoard board = toBitBoard(position);
+        return getSolver(position).scoreColumns(board);
+    }
+
+    /** Exact score of position for the side to move; the game must not be over. */
+    public int solve(Position position) {
+        BitBoard board = toBitBoard(position);
+        return board.isFull() ? 0 : getSolver(position).solve(board);
+    }
+
+    private Solver getSolver(Position position) {
+        if (solver == null || solverRows != position.getRows() || solverCols != position.getCols()) {
+            solverRows = position.getRows();
+            solverCols = position.getCols();
+            solver = new Solver(solverRows, solverCols);
+        }
+        return solver;
+    }
+
+    static BitBoard toBitBoard(Position position) {
+        BitBoard board = new BitBoard(position.getRows(), position.getCols());
+        for (int i = 0; i < position.getPly(); i++) board.play(position.getMove(i));
+        return board;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * SuiteRunner.java
+ * Runs one engine over position test files and reports correctness, solve time and nodes.
+ * File format (the common Connect 4 benchmark format): one position per line,
+ *   <1-based move string> <exact score for the side to move>
+ * Lines starting with # and blank lines are skipped.
+ *
+ * Correctness:
+ * - solver: the reported score must equal the expected score exactly
+ * - every other engine: its move must keep the game-theoretic outcome (win / draw / loss),
+ *   checked with the exact Solver; --no-verify skips the check
+ *
+ * Results are grouped per file; files named like Test_L3_R1 are labelled by phase and
+ * difficulty (L3 end, L2 middle, L1 begin; R1 easy, R2 medium, R3 hard).
+ *
+ * Usage: java SuiteRunner <engine> <file>... [--no-verify] [--limit N]
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+public class SuiteRunner {
+
+    private static final Pattern PONS_NAME = Pattern.compile("L(\\d)_R(\\d)");
+    private static final String[] PHASES = { "", "begin", "middle", "end" };
+    private static final String[] LEVELS = { "", "easy", "medium", "hard" };
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java SuiteRunner <engine> <file>... [--no-verify] [--limit N]");
+            System.err.println("Engines: " + Engines.names());
+            System.exit(2);
+        }
+        String engineName = args[0];
+        boolean verify = true;
+        int limit = Integer.MAX_VALUE;
+        List<Path> files = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--no-verify": verify = false; break;
+                case "--limit": limit = Integer.parseInt(args[++i]); break;
+                default: files.add(Paths.get(args[i]));
+            }
+        }
+
+        Engine engine = Engines.create(engineName);
+        boolean exact = engine instanceof SolverEngine;
+        SolverEngine oracle = (verify && !exact) ? new SolverEngine() : null;
+
+        System.out.println(String.format("%-28s %6s %8s %10s %10s %10s %10s %14s",
+                "Group (" + engineName + ")", "pos", "correct", "mean ms", "p50 ms", "p90 ms", "p99 ms", "mean nodes"));
+        for (Path file : files) {
+            String group = groupName(file);
+            List<String> lines = Files.readAllLines(file);
+            long[] nanos = new long[Math.min(lines.size(), limit)];
+            int n = 0, correct = 0, counted = 0;
+            long nodes = 0, withNodes = 0;
+            for (String raw : lines) {
+                String line = raw.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (n == nanos.length) break;
+                String[] parts = line.split("\\s+");
+                Position position = Position.fromMoves(parts[0]);
+                int expected = Integer.parseInt(parts[1]);
+
+                engine.newGame();
+                SearchResult r = engine.search(position);
+                nanos[n++] = r.getElapsedNanos();
+                if (r.getNodes() >= 0) {
+                    nodes += r.getNodes();
+                    withNodes++;
+                }
+                if (exact) {
+                    counted++;
+                    if (r.getScore() == expected) correct++;
+                } else if (oracle != null) {
+                    counted++;
+                    if (keepsOutcome(oracle, position, r.getColumn(), expected)) correct++;
+                }
+            }
+            long[] sorted = Arrays.copyOf(nanos, n);
+            Arrays.sort(sorted);
+            double mean = 0;
+            for (long t : sorted) mean += t;
+            mean = n == 0 ? 0 : mean / n / 1e6;
+            System.out.println(String.format("%-28s %6d %8s %10.3f %10.3f %10.3f %10.3f %14s",
+                    group, n, counted == 0 ? "-" : String.format("%.1f%%", 100.0 * correct / counted), mean,
+                    Tournament.percentile(sorted, 50), Tournament.percentile(sorted, 90), Tournament.percentile(sorted, 99),
+                    withNodes == 0 ? "-" : String.format("%.1f", (double) nodes / withNodes)));
+        }
+    }
+
+    /** Does playing col keep the sign of the exact score (win stays win, draw stays draw)? */
+    static boolean keepsOutcome(SolverEngine oracle, Position position, int col, int expected) {
+        if (!position.canPlay(col)) return false;
+        if (position.isWinningMove(col)) return expected > 0;
+        Position child = position.copy();
+        child.play(col);
+        int after = child.isFull() ? 0 : -oracle.solve(child);
+        return Integer.signum(after) == Integer.signum(expected);
+    }
+
+    static String groupName(Path file) {
+        String name = file.getFileName().toString();
+        Matcher m = PONS_NAME.matcher(name);
+        if (m.find()) {
+            int phase = Integer.parseInt(m.group(1));
+            int level = Integer.parseInt(m.group(2));
+            if (phase >= 1 && phase <= 3 && level >= 1 && level <= 3) {
+                return PHASES[phase] + "-" + LEVELS[level] + " (" + name + ")";
+            }
+        }
+        return name;
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ * Tournament.java
+ * Headless self-play between two engines, spread over all cores.
+ * Every random opening is played twice with colours swapped, so neither engine
+ * profits from a lucky opening or from moving first.
+ *
+ * Usage: java Tournament <engineA> <engineB> [--games N] [--threads T]
+ *                        [--opening-plies K] [--seed S] [--record FILE]
+ * Engine names: see Engines.names().
+ * --record appends every game to a GameRecordWriter archive; the tag is 0 when
+ * engine A moved first and 1 otherwise.
+ */
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class Tournament {
+
+    /** Outcome of one game, from engine A's point of view. */
+    static final class GameResult {
+        final String moves;
+        final boolean aFirst;
+        final int outcome;          // 1 A won, 0 draw, -1 B won
+        final boolean forfeit;      // loser returned an illegal move
+        final long[] latenciesA;
+        final long[] latenciesB;
+
+        GameResult(String moves, boolean aFirst, int outcome, boolean forfeit, long[] latenciesA, long[] latenciesB) {
+            this.moves = moves;
+            this.aFirst = aFirst;
+            this.outcome = outcome;
+            this.forfeit = forfeit;
+            this.latenciesA = latenciesA;
+            this.latenciesB = latenciesB;
+        }
+    }
+
+    // Deep openings rarely avoid a win; give up instead of retrying forever
+    private static final int MAX_OPENING_ATTEMPTS = 100_000;
+
+    private final String nameA;
+    private final String nameB;
+    private final int openingPlies;
+    // Engines are not thread-safe: every worker gets its own pair
+    private final ThreadLocal<Engine[]> engines;
+
+    public Tournament(String nameA, String nameB, int openingPlies) {
+        Position empty = new Position();
+        int maxPlies = empty.getRows() * empty.getCols() - 2;
+        if (openingPlies < 0 || openingPlies > maxPlies) {
+            throw new IllegalArgumentException("--opening-plies must be between 0 and " + maxPlies + ": " + openingPlies);
+        }
+        this.nameA = nameA;
+        this.nameB = nameB;
+        this.openingPlies = openingPlies;
+        Engines.create(nameA);
+        Engines.create(nameB);
+        this.engines = ThreadLocal.withInitial(() -> new Engine[] { Engines.create(nameA), Engines.create(nameB) });
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: java Tournament <engineA> <engineB> [--games N] [--threads T] [--opening-plies K] [--seed S] [--record FILE]");
+            System.err.println("Engines: " + Engines.names());
+            System.exit(2);
+        }
+        int games = 200;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int openingPlies = 2;
+        long seed = System.nanoTime();
+        String record = null;
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--opening-plies": openingPlies = Integer.parseInt(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--record": record = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Tournament t = new Tournament(args[0], args[1], openingPlies);
+        System.out.println(args[0] + " vs " + args[1] + ": " + games + " games, " + threads
+                + " threads, " + openingPlies + " random opening plies, seed " + seed);
+        List<GameResult> results = t.run(games, threads, seed);
+        t.report(results, System.out);
+        if (record != null) {
+            try (GameRecordWriter w = new GameRecordWriter(java.nio.file.Paths.get(record), 6, 7)) {
+                for (GameResult g : results) t.record(g, w);
+            }
+            System.out.println(results.size() + " games appended to " + record);
+        }
+    }
+
+    /** Append one game to an archive (see --record). */
+    void record(GameResult g, GameRecordWriter w) throws java.io.IOException {
+        int result;
+        if (g.outcome == 0) result = GameRecordWriter.RESULT_DRAW;
+        else result = (g.outcome > 0) == g.aFirst ? GameRecordWriter.RESULT_FIRST_WON : GameRecordWriter.RESULT_SECOND_WON;
+        if (g.forfeit) result |= GameRecordWriter.FORFEIT_FLAG;
+        w.append(Position.fromMoves(g.moves), result, g.aFirst ? 0 : 1);
+    }
+
+    /** Plays games (rounded up to an even number) on a fixed pool of threads. */
+    public List<GameResult> run(int games, int threads, long seed) throws InterruptedException {
+        Random random = new Random(seed);
+        int pairs = (games + 1) / 2;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CompletionService<GameResult> done = new ExecutorCompletionService<>(pool);
+        for (int p = 0; p < pairs; p++) {
+            String opening = randomOpening(random);
+            done.submit(() -> play(opening, true));
+            done.submit(() -> play(opening, false));
+        }
+        pool.shutdown();
+
+        List<GameResult> results = new ArrayList<>(pairs * 2);
+        int step = Math.max(1, pairs * 2 / 10);
+        for (int i = 0; i < pairs * 2; i++) {
+            try {
+                results.add(done.take().get());
+            } catch (ExecutionException e) {
+                pool.shutdownNow();
+                throw new IllegalStateException("Game failed", e.getCause());
+            }
+            if ((i + 1) % step == 0) System.out.println("  " + (i + 1) + "/" + (pairs * 2) + " games");
+        }
+        return results;
+    }
+
+    /** Uniformly random legal plies that neither win nor fill the board. */
+    String randomOpening(Random random) {
+        for (int attempt = 0; attempt < MAX_OPENING_ATTEMPTS; attempt++) {
+            Position p = new Position();
+            boolean ok = true;
+            for (int i = 0; i < openingPlies && ok; i++) {
+                int col = random.nextInt(p.getCols());
+                if (!p.canPlay(col)) {
+                    i--;
+                    continue;
+                }
+                p.play(col);
+                ok = !p.lastMoveWon() && !p.isFull();
+            }
+            if (ok) return p.toMoveString();
+        }
+        throw new IllegalStateException("No undecided " + openingPlies + "-ply opening found in "
+                + MAX_OPENING_ATTEMPTS + " attempts; lower --opening-plies");
+    }
+
+    GameResult play(String opening, boolean aFirst) {
+        Engine[] pair = engines.get();
+        Engine a = pair[0], b = pair[1];
+        a.newGame();
+        b.newGame();
+
+        Position p = Position.fromMoves(opening);
+        long[] latA = new long[p.getRows() * p.getCols()];
+        long[] latB = new long[latA.length];
+        int nA = 0, nB = 0;
+        while (true) {
+            boolean aToMove = (p.getPly() % 2 == 0) == aFirst;
+            SearchResult r = (aToMove ? a : b).search(p);
+            if (aToMove) latA[nA++] = r.getElapsedNanos();
+            else latB[nB++] = r.getElapsedNanos();
+
+            if (!p.canPlay(r.getColumn())) {
+                return new GameResult(p.toMoveString(), aFirst, aToMove ? -1 : 1, true,
+                        Arrays.copyOf(latA, nA), Arrays.copyOf(latB, nB));
+            }
+            p.play(r.getColumn());
+            if (p.lastMoveWon() || p.isFull()) {
+                int outcome = !p.lastMoveWon() ? 0 : (aToMove ? 1 : -1);
+                return new GameResult(p.toMoveString(), aFirst, outcome, false,
+                        Arrays.copyOf(latA, nA), Arrays.copyOf(latB, nB));
+            }
+        }
+    }
+
+    void report(List<GameResult> results, java.io.PrintStream out) {
+        int wins = 0, draws = 0, losses = 0, forfeits = 0, winsFirst = 0, gamesFirst = 0;
+        long movesA = 0, movesB = 0;
+        for (GameResult g : results) {
+            if (g.outcome > 0) wins++;
+            else if (g.outcome < 0) losses++;
+            else draws++;
+            if (g.forfeit) forfeits++;
+            if (g.aFirst) {
+                gamesFirst++;
+                if (g.outcome > 0) winsFirst++;
+            }
+            movesA += g.latenciesA.length;
+            movesB += g.latenciesB.length;
+        }
+        int n = results.size();
+
+        out.println();
+        out.println(String.format("%s vs %s: +%d =%d -%d  (%d games, %d forfeits)", nameA, nameB, wins, draws, losses, n, forfeits));
+        out.println(String.format("%s as first player: %d/%d wins", nameA, winsFirst, gamesFirst));
+
+        // Elo from the mean score; 95% interval from the per-game score variance
+        double score = (wins + 0.5 * draws) / n;
+        double var = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2) + losses * Math.pow(score, 2)) / n;
+        double margin = 1.96 * Math.sqrt(var / n);
+        double elo = elo(score);
+        double lo = elo(score - margin), hi = elo(score + margin);
+        out.println(String.format("Score %.1f%%  Elo %s +/- %.0f  (95%%: %s .. %s)", score * 100,
+                formatElo(elo), (hi - lo) / 2, formatElo(lo), formatElo(hi)));
+
+        out.println();
+        out.println(String.format("%-14s %8s %10s %10s %10s %10s %10s", "Latency (ms)", "moves", "mean", "p50", "p90", "p99", "max"));
+        printLatency(out, nameA, results, true, movesA);
+        printLatency(out, nameB, results, false, movesB);
+    }
+
+    private static void printLatency(java.io.PrintStream out, String name, List<GameResult> results, boolean a, long moves) {
+        long[] all = new long[(int) moves];
+        int k = 0;
+        double sum = 0;
+        for (GameResult g : results) {
+            for (long t : a ? g.latenciesA : g.latenciesB) {
+                all[k++] = t;
+                sum += t;
+            }
+        }
+        Arrays.sort(all);
+        out.println(String.format("%-14s %8d %10.3f %10.3f %10.3f %10.3f %10.3f", name, moves,
+                moves == 0 ? 0 : sum / moves / 1e6, percentile(all, 50), percentile(all, 90), percentile(all, 99),
+                moves == 0 ? 0 : all[all.length - 1] / 1e6));
+    }
+
+    /** Nearest-rank percentile of sorted nanosecond samples, in ms. */
+    static double percentile(long[] sorted, double pct) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(pct / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1e6;
+    }
+
+    /** Elo difference for an expected score; clamped so 0% / 100% stay finite. */
+    static double elo(double score) {
+        double s = Math.max(1e-4, Math.min(1 - 1e-4, score));
+        return -400 * Math.log10(1 / s - 1);
+    }
+
+    private static String formatElo(double elo) {
+        return String.format("%+.0f", elo);
+    }
+}
@@ -0,0 +1,252 @@
+/**
+ * AIMoveExecutor.java
+ * Runs AI moves for a Swing UI on one dedicated background thread.
+ * - The AI searches its own Board (getBoard), refreshed from a snapshot of the game board
+ *   when the move is requested, so the UI can reset its board while a search is running
+ * - Every request gets a fresh SearchCancellation with the request's deadline; cancel()
+ *   (new game, window closed) stops the running search at its next poll
+ * - The result is delivered on the EDT, and only if no newer request or cancel() came in
+ *   meanwhile; stale results are dropped. A search that throws is reported on stderr and
+ *   answered with the first playable column, so the UI is never left waiting for a move
+ * - ponder() uses the human's thinking time: it searches the position after each human
+ *   reply (centre first) and keeps the answers. A request for a pondered reply is answered
+ *   at once; if that reply is being searched right now, the running search is adopted
+ *   instead of restarted and gets the request's time limit from then on. Otherwise
+ *   pondering stops and the request searches normally, on whatever caches the engine
+ *   warmed up meanwhile. The ponder search should report to its own SearchProgress (or
+ *   none): it explores positions the human may never play
+ * request, ponder, cancel and reset must be called on the EDT.
+ */
+
+import javax.swing.SwingUtilities;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+public class AIMoveExecutor {
+
+    /** A search on getBoard() that polls cancellation; returns the chosen column. */
+    public interface Search {
+        int run(SearchCancellation cancellation);
+    }
+
+    private final Board aiBoard;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "connect4-ai");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // EDT-confined
+    private int generation;
+    private SearchCancellation running = SearchCancellation.NONE;
+    private Board ponderBase;          // position the ponder replies are played on, null if none
+    private char ponderHuman;
+
+    // Shared with the executor thread while pondering
+    private final Map<Integer, Integer> ponderMoves = new ConcurrentHashMap<>();   // reply -> answer
+    private volatile int ponderReply = -1;                                         // reply being searched
+    private final AtomicReference<Adoption> adoption = new AtomicReference<>();
+
+    /** A request waiting for the ponder search of its reply to finish. */
+    private static final class Adoption {
+        final int reply;
+        final int generation;
+        final IntConsumer onMove;
+        final AtomicBoolean delivered = new AtomicBoolean();
+
+        Adoption(int reply, int generation, IntConsumer onMove) {
+            this.reply = reply;
+            this.generation = generation;
+            this.onMove = onMove;
+        }
+    }
+
+    public AIMoveExecutor(Board gameBoard) {
+        this.aiBoard = new Board(gameBoard);
+    }
+
+    /** The board AI engines must be built on; only the executor thread touches it. */
+    public Board getBoard() {
+        return aiBoard;
+    }
+
+    /**
+     * Search a copy of gameBoard in the background, stopping after timeLimitMillis
+     * (0 = no limit), and pass the column to onMove on the EDT unless it went stale.
+     */
+    public void request(Board gameBoard, long timeLimitMillis, Search search, IntConsumer onMove) {
+        if (answerFromPonder(gameBoard, timeLimitMillis, onMove)) return;
+        cancel();
+        int requestGeneration = generation;
+        Board snapshot = new Board(gameBoard);
+        SearchCancellation cancellation = new SearchCancellation(timeLimitMillis, 0);
+        running = cancellation;
+        executor.execute(() -> {
+            // The previous task has finished: this is the only thread using aiBoard
+            aiBoard.copyFrom(snapshot);
+            int move;
+            try {
+                move = search.run(cancellation);
+            } catch (RuntimeException e) {
+                move = fallbackMove(snapshot, e);
+            }
+            int result = move;
+            SwingUtilities.invokeLater(() -> {
+                if (requestGeneration == generation) {
+                    running = SearchCancellation.NONE;
+                    onMove.accept(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Search the replies human can make on gameBoard in the background (centre column
+     * first) until the next request or cancel. search sees getBoard() with the reply played.
+     */
+    public void ponder(Board gameBoard, char human, Search search) {
+        cancel();
+        Board base = new Board(gameBoard);
+        SearchCancellation cancellation = new SearchCancellation();
+        running = cancellation;
+        ponderBase = base;
+        ponderHuman = human;
+        ponderMoves.clear();
+        adoption.set(null);
+        executor.execute(() -> {
+            int cols = base.getCols();
+            for (int i = 0; i < cols && !cancellation.isStopped(); i++) {
+                // centre first: 3, 2, 4, 1, 5, 0, 6 on seven columns
+                int reply = cols / 2 + ((i % 2 == 0) ? i / 2 : -(i + 1) / 2);
+                if (!base.isValidMove(reply)) continue;
+                aiBoard.copyFrom(base);
+                aiBoard.insertDisc(reply, human);
+                ponderReply = reply;
+                int move;
+                boolean failed = false;
+                try {
+                    move = search.run(cancellation);
+                } catch (RuntimeException e) {
+                    Board position = new Board(base);
+                    position.insertDisc(reply, human);
+                    move = fallbackMove(position, e);
+                    failed = true;
+                } finally {
+                    ponderReply = -1;
+                }
+                Adoption a = adoption.get();
+                if (a != null && a.reply == reply) {
+                    // The human played this reply while it was being searched: its result stands
+                    deliver(a, move);
+                    return;
+                }
+                if (failed || cancellation.isStopped()) break;
+                ponderMoves.put(reply, move);
+            }
+        });
+    }
+
+    /**
+     * If gameBoard is ponderBase plus one human disc, answer from the finished ponder search
+     * or adopt the one in progress, which from now on stops after timeLimitMillis like a
+     * fresh request. Returns false when the request must search normally.
+     */
+    private boolean answerFromPonder(Board gameBoard, long timeLimitMillis, IntConsumer onMove) {
+        if (ponderBase == null) return false;
+        int reply = singleAddedDisc(ponderBase, gameBoard, ponderHuman);
+        ponderBase = null;
+        if (reply < 0) return false;
+        Integer ready = ponderMoves.get(reply);
+        if (ready == null) {
+            Adoption a = new Adoption(reply, generation, onMove);
+            adoption.set(a);
+            ready = ponderMoves.get(reply);
+            if (ready == null) {
+                if (ponderReply == reply) {
+                    running.limitTime(timeLimitMillis);
+                    return true;      // the executor thread delivers when the search ends
+                }
+                adoption.set(null);
+                return false;
+            }
+            if (!a.delivered.compareAndSet(false, true)) return true;
+        }
+        // Stop pondering the other replies; the answer is already known
+        running.stop();
+        running = SearchCancellation.NONE;
+        int move = ready;
+        int requestGeneration = generation;
+        SwingUtilities.invokeLater(() -> {
+            if (requestGeneration == generation) onMove.accept(move);
+        });
+        return true;
+    }
+
+    private void deliver(Adoption a, int move) {
+        if (!a.delivered.compareAndSet(false, true)) return;
+        SwingUtilities.invokeLater(() -> {
+            if (a.generation == generation) {
+                running = SearchCancellation.NONE;
+                a.onMove.accept(move);
+            }
+        });
+    }
+
+    /** Report a failed search and pick the first playable column of position instead. */
+    private static int fallbackMove(Board position, RuntimeException e) {
+        int col = 0;
+        while (col < position.getCols() && !position.isValidMove(col)) col++;
+        if (col == position.getCols()) col = -1;
+        System.err.println("AI search failed (" + e + "), playing column " + (col + 1));
+        return col;
+    }
+
+    /** The column where after has exactly one more disc than before, of player; -1 otherwise. */
+    private static int singleAddedDisc(Board before, Board after, char player) {
+        if (before.getRows() != after.getRows() || before.getCols() != after.getCols()) return -1;
+        int added = -1;
+        for (int c = 0; c < before.getCols(); c++) {
+            int diff = after.getColumnCount(c) - before.getColumnCount(c);
+            if (diff == 0) continue;
+            if (diff != 1 || added >= 0) return -1;
+            added = c;
+        }
+        if (added < 0) return -1;
+        char[][] a = after.getBoard(), b = before.getBoard();
+        for (int r = 0; r < before.getRows(); r++) {
+            for (int c = 0; c < before.getCols(); c++) {
+                if (a[r][c] != b[r][c] && !(c == added && a[r][c] == player && b[r][c] == ' ')) return -1;
+            }
+        }
+        return added;
+    }
+
+    /** Stop the running search and drop its result. */
+    public void cancel() {
+        generation++;
+        running.stop();
+        running = SearchCancellation.NONE;
+        ponderBase = null;
+        adoption.set(null);
+    }
+
+    /**
+     * Cancel, then run reset on the AI thread before any later search; for a new game,
+     * e.g. to clear the engine's caches without racing a search still unwinding.
+     */
+    public void reset(Runnable reset) {
+        cancel();
+        executor.execute(reset);
+    }
+
+    /** Cancel and release the thread; the executor cannot be used afterwards. */
+    public void shutdown() {
+        cancel();
+        executor.shutdown();
+    }
+}
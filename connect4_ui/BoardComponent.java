@@ -0,0 +1,163 @@
+/**
+ * BoardComponent.java
+ * The Connect4 grid as one Swing component, drawn in the neumorphic style of the UIs
+ * (rounded white cell with a soft shadow, solid disc).
+ * - Each cell look (empty, or holding a disc of a given colour) is rendered once into a
+ *   sprite image for the current cell size and screen scale; painting a cell is one
+ *   drawImage. Sprites are rebuilt only when the cell size or scale changes
+ * - setDisc repaints only that cell's rectangle, so a move costs one cell, not the board
+ * - Clicks are reported as columns to the column listener
+ * Geometry matches the old grid of 90x90 cells with 8 px gaps and a 15 px margin.
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+public class BoardComponent extends JComponent {
+
+    private static final int CELL = 90, GAP = 8, MARGIN = 15;
+    private static final Color COLOR_CELL = new Color(255, 255, 255);
+    private static final Color COLOR_CELL_SHADOW = new Color(200, 200, 200, 100);
+    private static final Color COLOR_CELL_BORDER = new Color(220, 220, 220);
+
+    private final int rows, cols;
+    private final Color[][] discs;            // null = empty
+    private final Rectangle cellBounds = new Rectangle();
+
+    // Sprites for cells of spriteWidth x spriteHeight at spriteScale; key null = empty cell
+    private final Map<Color, BufferedImage> sprites = new HashMap<>();
+    private int spriteWidth, spriteHeight;
+    private double spriteScale;
+
+    public BoardComponent(int rows, int cols, Color background, IntConsumer columnListener) {
+        this.rows = rows;
+        this.cols = cols;
+        this.discs = new Color[rows][cols];
+        setBackground(background);
+        setOpaque(true);
+        setPreferredSize(new Dimension(2 * MARGIN + cols * CELL + (cols - 1) * GAP,
+                2 * MARGIN + rows * CELL + (rows - 1) * GAP));
+        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int col = columnAt(e.getX());
+                if (col >= 0) columnListener.accept(col);
+            }
+        });
+    }
+
+    /** Put a disc of color (null = empty) in the cell and repaint just that cell. */
+    public void setDisc(int row, int col, Color color) {
+        if (discs[row][col] == color) return;
+        discs[row][col] = color;
+        cellBounds(row, col, cellBounds);
+        repaint(cellBounds);
+    }
+
+    /** Empty every cell. */
+    public void clear() {
+        for (Color[] row : discs) Arrays.fill(row, null);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        Rectangle r = new Rectangle();
+        cellBounds(0, 0, r);
+        prepareSprites(r.width, r.height, scaleOf(g));
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cellBounds(row, col, r);
+                if (!r.intersects(clip)) continue;
+                g.drawImage(sprite(discs[row][col]), r.x, r.y, r.width, r.height, null);
+            }
+        }
+    }
+
+    /** Column under x, or -1 in a margin or gap. */
+    private int columnAt(int x) {
+        Rectangle r = new Rectangle();
+        for (int col = 0; col < cols; col++) {
+            cellBounds(0, col, r);
+            if (x >= r.x && x < r.x + r.width) return col;
+        }
+        return -1;
+    }
+
+    /** Bounds of a cell at the current size; cells share the space left after margins and gaps. */
+    private void cellBounds(int row, int col, Rectangle out) {
+        int w = Math.max(1, (getWidth() - 2 * MARGIN - (cols - 1) * GAP) / cols);
+        int h = Math.max(1, (getHeight() - 2 * MARGIN - (rows - 1) * GAP) / rows);
+        out.setBounds(MARGIN + col * (w + GAP), MARGIN + row * (h + GAP), w, h);
+    }
+
+    private static double scaleOf(Graphics g) {
+        if (!(g instanceof Graphics2D)) return 1;
+        AffineTransform t = ((Graphics2D) g).getTransform();
+        return Math.max(1, t.getScaleX());
+    }
+
+    private void prepareSprites(int width, int height, double scale) {
+        if (width == spriteWidth && height == spriteHeight && scale == spriteScale) return;
+        sprites.clear();
+        spriteWidth = width;
+        spriteHeight = height;
+        spriteScale = scale;
+    }
+
+    private BufferedImage sprite(Color disc) {
+        BufferedImage image = sprites.get(disc);
+        if (image == null) {
+            image = renderCell(disc);
+            sprites.put(disc, image);
+        }
+        return image;
+    }
+
+    /** Draw one cell (shadow, rounded card, border, optional disc) at device resolution. */
+    private BufferedImage renderCell(Color disc) {
+        int pw = (int) Math.ceil(spriteWidth * spriteScale);
+        int ph = (int) Math.ceil(spriteHeight * spriteScale);
+        BufferedImage image = new BufferedImage(pw, ph, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.scale(spriteScale, spriteScale);
+
+        int cellSize = Math.min(spriteWidth, spriteHeight) - 8;
+        int cellX = (spriteWidth - cellSize) / 2;
+        int cellY = (spriteHeight - cellSize) / 2;
+
+        // Subtle shadow to the bottom-right, then the white card and its border
+        g2d.setColor(COLOR_CELL_SHADOW);
+        g2d.fill(new RoundRectangle2D.Double(cellX + 2, cellY + 2, cellSize, cellSize, 18, 18));
+        g2d.setColor(COLOR_CELL);
+        g2d.fill(new RoundRectangle2D.Double(cellX, cellY, cellSize, cellSize, 18, 18));
+        g2d.setColor(COLOR_CELL_BORDER);
+        g2d.setStroke(new BasicStroke(1));
+        g2d.draw(new RoundRectangle2D.Double(cellX, cellY, cellSize - 1, cellSize - 1, 18, 18));
+
+        if (disc != null) {
+            int discPadding = 8;
+            int discSize = cellSize - (discPadding * 2);
+            g2d.setColor(disc);
+            g2d.fillOval(cellX + discPadding, cellY + discPadding, discSize, discSize);
+        }
+        g2d.dispose();
+        return image;
+    }
+}
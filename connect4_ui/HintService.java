@@ -0,0 +1,104 @@
+/**
+ * HintService.java
+ * Hints for the human player in the Swing UIs, computed before they are asked for.
+ * - precompute(gameBoard) is called whenever the human is to move (after each AI move,
+ *   at the start of a game); a background thread searches the human's best move on a
+ *   snapshot with the engine the UI built on getBoard()
+ * - getHint(gameBoard) only looks up that result: the column if it is ready for exactly
+ *   this position, -1 otherwise. It never searches, so pressing Hint costs a comparison
+ * - The engine belongs to the hint thread, so caches that persist across searches (the
+ *   DP transposition table, keyed by the side searched for) stay warm from one hint to
+ *   the next, in two-player mode too
+ * The thread runs at minimum priority so it yields to the AI thread. precompute, getHint,
+ * cancel and reset must be called on the EDT.
+ */
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class HintService {
+
+    private static final class Hint {
+        final char[][] position;
+        final int column;
+
+        Hint(char[][] position, int column) {
+            this.position = position;
+            this.column = column;
+        }
+    }
+
+    private final Board hintBoard;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "connect4-hint");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private volatile Hint latest;
+    // EDT-confined
+    private SearchCancellation running = SearchCancellation.NONE;
+
+    public HintService(Board gameBoard) {
+        this.hintBoard = new Board(gameBoard);
+    }
+
+    /** The board hint engines must be built on; only the hint thread touches it. */
+    public Board getBoard() {
+        return hintBoard;
+    }
+
+    /** Start searching the hint for gameBoard, dropping any older one. */
+    public void precompute(Board gameBoard, AIMoveExecutor.Search search) {
+        cancel();
+        Board snapshot = new Board(gameBoard);
+        SearchCancellation cancellation = new SearchCancellation();
+        running = cancellation;
+        executor.execute(() -> {
+            if (cancellation.isStopped()) return;
+            hintBoard.copyFrom(snapshot);
+            int column;
+            try {
+                column = search.run(cancellation);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                return;
+            }
+            // A cut-short search is no hint
+            if (!cancellation.isStopped() && column >= 0) {
+                latest = new Hint(snapshot.getBoard(), column);
+            }
+        });
+    }
+
+    /** The hinted column for gameBoard, or -1 if it is not ready (or for another position). */
+    public int getHint(Board gameBoard) {
+        Hint hint = latest;
+        if (hint == null || !Arrays.deepEquals(hint.position, gameBoard.getBoard())) return -1;
+        return hint.column;
+    }
+
+    /** Stop the running hint search and forget the last hint. */
+    public void cancel() {
+        latest = null;
+        running.stop();
+        running = SearchCancellation.NONE;
+    }
+
+    /**
+     * Cancel, then run reset on the hint thread before any later search; for a new game,
+     * e.g. to clear the hint engine's caches without racing a search still unwinding.
+     */
+    public void reset(Runnable reset) {
+        cancel();
+        executor.execute(reset);
+    }
+
+    /** Cancel and release the thread; the service cannot be used afterwards. */
+    public void shutdown() {
+        cancel();
+        executor.shutdown();
+    }
+}